@@ -0,0 +1,49 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The level-independent part of a brush call: finding the player's session, advancing its
+ * progress and recomputing the shared visual, with several players on one block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BrushSessionBenchmark {
+    @Param({"1", "8", "32"})
+    public int players;
+
+    private BrushSessionTable sessions;
+    private UUID lastPlayer;
+    private long gameTime;
+
+    @Setup
+    public void setup() {
+        sessions = new BrushSessionTable();
+        for (int i = 0; i < players; i++) {
+            lastPlayer = new UUID(0x5EEDL, i);
+            sessions.findOrAdd(lastPlayer);
+        }
+    }
+
+    @Benchmark
+    public int brush() {
+        // The last player in the table is the worst case for the linear scan
+        int slot = sessions.findOrAdd(lastPlayer);
+        gameTime += 10;
+        sessions.setBrushCountResetsAtTick(slot, gameTime + 40);
+        sessions.setCoolDownEndsAtTick(slot, gameTime + 10);
+        sessions.setBrushCount(slot, (sessions.brushCount(slot) + 1) % 10);
+        return sessions.maxBrushCount();
+    }
+}
@@ -0,0 +1,71 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Harvest persistence and the per-brush harvested check, for a single block harvested by
+ * an increasing number of players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HarvestLedgerBenchmark {
+    private static final BlockPos POS = new BlockPos(120, 64, -340);
+
+    @Param({"10", "1000", "10000"})
+    public int harvesters;
+
+    private HarvestLedger ledger;
+    private CompoundTag saved;
+    private UUID harvested;
+    private UUID notHarvested;
+
+    @Setup
+    public void setup() {
+        ResetClock.useClock(Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC));
+        Random random = new Random(42);
+        ledger = new HarvestLedger();
+        for (int i = 0; i < harvesters; i++) {
+            harvested = new UUID(random.nextLong(), random.nextLong());
+            ledger.markHarvested(POS, harvested);
+        }
+        notHarvested = new UUID(random.nextLong(), random.nextLong());
+        saved = ledger.save(new CompoundTag(), null);
+    }
+
+    @Benchmark
+    public CompoundTag save() {
+        return ledger.save(new CompoundTag(), null);
+    }
+
+    @Benchmark
+    public HarvestLedger load() {
+        return HarvestLedger.load(saved, null);
+    }
+
+    @Benchmark
+    public boolean hasHarvestedHit() {
+        return ledger.hasHarvested(POS, harvested);
+    }
+
+    @Benchmark
+    public boolean hasHarvestedMiss() {
+        return ledger.hasHarvested(POS, notHarvested);
+    }
+}
@@ -0,0 +1,69 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synchronous part of a reset over many harvested blocks: clearing the ledger and
+ * sorting the positions by chunk for the ResetPipeline. Both the /dailybrushable reset all
+ * path and the midnight rollover (pruneStale) are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResetBenchmark {
+    private static final Instant DAY_ONE = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Instant DAY_TWO = Instant.parse("2025-06-02T12:00:00Z");
+
+    @Param({"10000", "100000"})
+    public int blocks;
+
+    private long[] positions;
+    private HarvestLedger ledger;
+
+    @Setup(Level.Trial)
+    public void placeBlocks() {
+        // Spread the blocks over a 2048x2048 area like a large dig site network
+        Random random = new Random(42);
+        positions = new long[blocks];
+        for (int i = 0; i < blocks; i++) {
+            positions[i] = BlockPos.asLong(random.nextInt(2048) - 1024, 40 + random.nextInt(40), random.nextInt(2048) - 1024);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void harvestAll() {
+        ResetClock.useClock(Clock.fixed(DAY_ONE, ZoneOffset.UTC));
+        ledger = new HarvestLedger();
+        UUID player = new UUID(1L, 2L);
+        for (long packedPos : positions) {
+            ledger.markHarvested(packedPos, player.getMostSignificantBits(), player.getLeastSignificantBits());
+        }
+    }
+
+    @Benchmark
+    public long[] resetAll() {
+        return ResetPipeline.sortByChunk(ledger.resetAll());
+    }
+
+    @Benchmark
+    public long[] rollover() {
+        ResetClock.useClock(Clock.fixed(DAY_TWO, ZoneOffset.UTC));
+        return ResetPipeline.sortByChunk(ledger.pruneStale());
+    }
+}
@@ -0,0 +1,86 @@
+package com.skys.cobblemonutilsmod;
+
+import com.skys.cobblemonutilsmod.archaeology.ResetClock;
+import com.skys.cobblemonutilsmod.events.AggroPolicy;
+import net.neoforged.fml.event.config.ModConfigEvent;
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+import java.util.List;
+
+public class Config {
+    private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder();
+
+    // Also used to validate per-dimension overrides
+    public static final double MIN_AGGRO_SWEEP_RADIUS = 1.0D;
+    public static final double MAX_AGGRO_SWEEP_RADIUS = 128.0D;
+    public static final int MIN_AGGRO_SWEEP_INTERVAL_TICKS = 1;
+    public static final int MAX_AGGRO_SWEEP_INTERVAL_TICKS = 6000;
+
+    static {
+        BUILDER.push("archaeology");
+    }
+
+    public static final ModConfigSpec.LongValue RESET_TICK_BUDGET_NANOS = BUILDER
+            .comment("Maximum time in nanoseconds the daily reset may spend refreshing blocks per server tick.",
+                    "Remaining blocks are carried over to the next tick.")
+            .defineInRange("resetTickBudgetNanos", 2_000_000L, 50_000L, 50_000_000L);
+
+    public static final ModConfigSpec.LongValue SIMULATION_TICK_BUDGET_NANOS = BUILDER
+            .comment("Maximum time in nanoseconds /dailybrushable simulate may spend rolling loot per server tick.",
+                    "Spent in addition to the reset budget; remaining rolls continue on the next tick.")
+            .defineInRange("simulationTickBudgetNanos", 1_000_000L, 50_000L, 50_000_000L);
+
+    public static final ModConfigSpec.ConfigValue<String> RESET_TIMEZONE = BUILDER
+            .comment("Timezone whose midnight starts a new daily period, e.g. \"Europe/London\" or \"UTC\".",
+                    "Leave empty to use the host's default timezone.")
+            .define("resetTimezone", "");
+
+    public static final ModConfigSpec.BooleanValue DETERMINISTIC_LOOT = BUILDER
+            .comment("Derive each brush's loot seed from the world seed, block position, reset period and player.",
+                    "Rolls become reproducible and can be precomputed. Blocks with an explicit LootTableSeed keep using it.")
+            .define("deterministicLoot", false);
+
+    static {
+        BUILDER.pop();
+        BUILDER.push("metrics");
+    }
+
+    public static final ModConfigSpec.IntValue METRICS_DUMP_INTERVAL_SECONDS = BUILDER
+            .comment("How often to write skysutils_metrics.prom (Prometheus text format) to the world folder, in seconds.",
+                    "0 disables the file; /skysutils metrics works either way.")
+            .defineInRange("dumpIntervalSeconds", 0, 0, 3600);
+
+    static {
+        BUILDER.pop();
+        BUILDER.push("battleAggro");
+    }
+
+    public static final ModConfigSpec.IntValue AGGRO_SWEEP_INTERVAL_TICKS = BUILDER
+            .comment("How often, in ticks, to sweep for Brain-AI mobs still targeting players in battle.",
+                    "New targets are blocked as they are set; the sweep only catches ones that slipped through.")
+            .defineInRange("sweepIntervalTicks", 100, MIN_AGGRO_SWEEP_INTERVAL_TICKS, MAX_AGGRO_SWEEP_INTERVAL_TICKS);
+
+    public static final ModConfigSpec.DoubleValue AGGRO_SWEEP_RADIUS = BUILDER
+            .comment("Distance in blocks around a player in battle that the sweep checks.")
+            .defineInRange("sweepRadius", 16.0D, MIN_AGGRO_SWEEP_RADIUS, MAX_AGGRO_SWEEP_RADIUS);
+
+    public static final ModConfigSpec.ConfigValue<List<? extends String>> AGGRO_DIMENSION_OVERRIDES = BUILDER
+            .comment("Per-dimension overrides as \"dimension,sweepRadius,sweepIntervalTicks\", e.g. \"minecraft:the_nether,24,40\".",
+                    "Mobs exempt from battle protection are set by the skyscobblemonutilsmod:battle_aggro_exempt entity type tag.",
+                    "The tag matches exact entity types: modded bosses extending the Wither, Ender Dragon or Warden must be added to it.")
+            .defineListAllowEmpty("dimensionOverrides", List.of(), () -> "minecraft:overworld,16,100",
+                    entry -> entry instanceof String s && AggroPolicy.parseOverride(s) != null);
+
+    static {
+        BUILDER.pop();
+    }
+
+    static final ModConfigSpec SPEC = BUILDER.build();
+
+    static void onConfigChanged(ModConfigEvent event) {
+        if (event.getConfig().getSpec() == SPEC) {
+            ResetClock.reloadZone();
+            AggroPolicy.compileLevelParams();
+        }
+    }
+}
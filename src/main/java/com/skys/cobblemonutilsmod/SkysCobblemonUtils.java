@@ -1,11 +1,23 @@
 package com.skys.cobblemonutilsmod;
 
+import com.skys.cobblemonutilsmod.archaeology.ClientHarvestCache;
 import com.skys.cobblemonutilsmod.archaeology.DailyResetManager;
+import com.skys.cobblemonutilsmod.archaeology.HarvestJournal;
 import com.skys.cobblemonutilsmod.archaeology.ModArchaeologyRegistry;
+import com.skys.cobblemonutilsmod.events.ActiveBattleRegistry;
+import com.skys.cobblemonutilsmod.events.AggroPolicy;
+import com.skys.cobblemonutilsmod.events.AggroTargetIndex;
 import com.skys.cobblemonutilsmod.events.BattleAggroHandler;
 import com.skys.cobblemonutilsmod.events.PokemonCaptureHandler;
+import com.skys.cobblemonutilsmod.feedback.FeedbackDispatcher;
+import com.skys.cobblemonutilsmod.metrics.ModMetrics;
+import com.skys.cobblemonutilsmod.network.ModNetworking;
+import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.config.ModConfig;
+import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.common.NeoForge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,17 +27,35 @@ public class SkysCobblemonUtils {
     public static final String MOD_ID = "skyscobblemonutilsmod";
     public static final Logger LOGGER = LoggerFactory.getLogger(SkysCobblemonUtils.class);
 
-    public SkysCobblemonUtils(IEventBus modEventBus) {
+    public SkysCobblemonUtils(IEventBus modEventBus, ModContainer modContainer) {
         LOGGER.info("Initializing Sky's Cobblemon Utils");
 
+        // Register config
+        modContainer.registerConfig(ModConfig.Type.COMMON, Config.SPEC);
+        modEventBus.addListener(Config::onConfigChanged);
+
         // Register archaeology blocks and entities
         ModArchaeologyRegistry.register(modEventBus);
 
+        // Register network payloads
+        modEventBus.addListener(ModNetworking::register);
+
         // Register event handlers
         NeoForge.EVENT_BUS.register(new BattleAggroHandler());
+        NeoForge.EVENT_BUS.register(ActiveBattleRegistry.class);
+        NeoForge.EVENT_BUS.register(AggroTargetIndex.class);
+        NeoForge.EVENT_BUS.register(AggroPolicy.class);
         NeoForge.EVENT_BUS.register(DailyResetManager.class);
+        NeoForge.EVENT_BUS.register(HarvestJournal.class);
+        NeoForge.EVENT_BUS.register(FeedbackDispatcher.class);
+        NeoForge.EVENT_BUS.register(ModMetrics.class);
+        NeoForge.EVENT_BUS.register(new ModNetworking());
         new PokemonCaptureHandler(); // Registers itself via Cobblemon event system
 
+        if (FMLEnvironment.dist == Dist.CLIENT) {
+            NeoForge.EVENT_BUS.register(ClientHarvestCache.class);
+        }
+
         LOGGER.info("Sky's Cobblemon Utils initialized successfully");
     }
 }
@@ -0,0 +1,158 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Per-block table of brushing sessions, one slot per player, so several players can brush
+ * the same block at once with independent progress, cooldown and loot. Stored as parallel
+ * arrays and searched linearly: a block rarely has more than a couple dozen sessions, and
+ * lookups by raw UUID bits don't allocate.
+ * <p>
+ * Slot indices are only stable until the next {@link #remove(int)}, which swaps the last
+ * slot into the freed one. Server thread only.
+ */
+final class BrushSessionTable {
+    private static final int INITIAL_CAPACITY = 2;
+    static final long NOT_ROLLED = Long.MIN_VALUE;
+
+    private long[] msbs = new long[INITIAL_CAPACITY];
+    private long[] lsbs = new long[INITIAL_CAPACITY];
+    private int[] brushCounts = new int[INITIAL_CAPACITY];
+    private long[] brushCountResetsAtTick = new long[INITIAL_CAPACITY];
+    private long[] coolDownEndsAtTick = new long[INITIAL_CAPACITY];
+    private Direction[] hitDirections = new Direction[INITIAL_CAPACITY];
+    // Loot rolled for the session and the period it was rolled in; kept while the player pauses
+    private ItemStack[] loot = new ItemStack[INITIAL_CAPACITY];
+    private long[] lootDays = new long[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int find(UUID playerUUID) {
+        long msb = playerUUID.getMostSignificantBits();
+        long lsb = playerUUID.getLeastSignificantBits();
+        for (int i = 0; i < size; i++) {
+            if (msbs[i] == msb && lsbs[i] == lsb) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int findOrAdd(UUID playerUUID) {
+        int slot = find(playerUUID);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == msbs.length) {
+            grow(size * 2);
+        }
+        slot = size++;
+        msbs[slot] = playerUUID.getMostSignificantBits();
+        lsbs[slot] = playerUUID.getLeastSignificantBits();
+        brushCounts[slot] = 0;
+        brushCountResetsAtTick[slot] = 0;
+        coolDownEndsAtTick[slot] = 0;
+        hitDirections[slot] = null;
+        loot[slot] = ItemStack.EMPTY;
+        lootDays[slot] = NOT_ROLLED;
+        return slot;
+    }
+
+    private void grow(int capacity) {
+        msbs = Arrays.copyOf(msbs, capacity);
+        lsbs = Arrays.copyOf(lsbs, capacity);
+        brushCounts = Arrays.copyOf(brushCounts, capacity);
+        brushCountResetsAtTick = Arrays.copyOf(brushCountResetsAtTick, capacity);
+        coolDownEndsAtTick = Arrays.copyOf(coolDownEndsAtTick, capacity);
+        hitDirections = Arrays.copyOf(hitDirections, capacity);
+        loot = Arrays.copyOf(loot, capacity);
+        lootDays = Arrays.copyOf(lootDays, capacity);
+    }
+
+    void remove(int slot) {
+        int last = --size;
+        if (slot != last) {
+            msbs[slot] = msbs[last];
+            lsbs[slot] = lsbs[last];
+            brushCounts[slot] = brushCounts[last];
+            brushCountResetsAtTick[slot] = brushCountResetsAtTick[last];
+            coolDownEndsAtTick[slot] = coolDownEndsAtTick[last];
+            hitDirections[slot] = hitDirections[last];
+            loot[slot] = loot[last];
+            lootDays[slot] = lootDays[last];
+        }
+        hitDirections[last] = null;
+        loot[last] = null;
+    }
+
+    void clear() {
+        Arrays.fill(hitDirections, 0, size, null);
+        Arrays.fill(loot, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Highest progress of any session; drives the shared DUSTED visual.
+     */
+    int maxBrushCount() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, brushCounts[i]);
+        }
+        return max;
+    }
+
+    int brushCount(int slot) {
+        return brushCounts[slot];
+    }
+
+    void setBrushCount(int slot, int count) {
+        brushCounts[slot] = count;
+    }
+
+    long brushCountResetsAtTick(int slot) {
+        return brushCountResetsAtTick[slot];
+    }
+
+    void setBrushCountResetsAtTick(int slot, long tick) {
+        brushCountResetsAtTick[slot] = tick;
+    }
+
+    long coolDownEndsAtTick(int slot) {
+        return coolDownEndsAtTick[slot];
+    }
+
+    void setCoolDownEndsAtTick(int slot, long tick) {
+        coolDownEndsAtTick[slot] = tick;
+    }
+
+    @Nullable
+    Direction hitDirection(int slot) {
+        return hitDirections[slot];
+    }
+
+    void setHitDirection(int slot, @Nullable Direction direction) {
+        hitDirections[slot] = direction;
+    }
+
+    ItemStack loot(int slot) {
+        return loot[slot];
+    }
+
+    long lootDay(int slot) {
+        return lootDays[slot];
+    }
+
+    void setLoot(int slot, ItemStack stack, long day) {
+        loot[slot] = stack;
+        lootDays[slot] = day;
+    }
+}
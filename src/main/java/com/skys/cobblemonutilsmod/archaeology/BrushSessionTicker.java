@@ -0,0 +1,62 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import java.util.Arrays;
+
+/**
+ * Ticks only the daily brushable blocks that have an active brushing session, replacing
+ * per-block scheduleTick churn. Blocks live in a compact array and know their own slot,
+ * so activation and removal are O(1). Idle blocks never enter the level tick queue.
+ * Server thread only.
+ */
+public final class BrushSessionTicker {
+    private static DailyBrushableBlockEntity[] active = new DailyBrushableBlockEntity[16];
+    private static int size = 0;
+
+    private BrushSessionTicker() {
+    }
+
+    public static void activate(DailyBrushableBlockEntity blockEntity) {
+        if (blockEntity.tickerSlot >= 0) {
+            return; // Already ticking
+        }
+        if (size == active.length) {
+            active = Arrays.copyOf(active, size * 2);
+        }
+        blockEntity.tickerSlot = size;
+        active[size++] = blockEntity;
+    }
+
+    public static void deactivate(DailyBrushableBlockEntity blockEntity) {
+        int slot = blockEntity.tickerSlot;
+        if (slot < 0) {
+            return;
+        }
+        // Swap the last entry into the freed slot
+        DailyBrushableBlockEntity last = active[--size];
+        active[slot] = last;
+        last.tickerSlot = slot;
+        active[size] = null;
+        blockEntity.tickerSlot = -1;
+    }
+
+    /**
+     * Runs decay and cooldown for every active session. Sessions that finished are dropped.
+     */
+    public static void tick() {
+        // Iterate backwards so swap-removal doesn't skip entries
+        for (int i = size - 1; i >= 0; i--) {
+            DailyBrushableBlockEntity blockEntity = active[i];
+            if (blockEntity.isRemoved() || blockEntity.getLevel() == null || !blockEntity.tickSession()) {
+                deactivate(blockEntity);
+            }
+        }
+    }
+
+    public static void clear() {
+        for (int i = 0; i < size; i++) {
+            active[i].tickerSlot = -1;
+            active[i] = null;
+        }
+        size = 0;
+    }
+}
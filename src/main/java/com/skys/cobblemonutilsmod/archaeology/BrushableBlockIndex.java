@@ -0,0 +1,85 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of loaded daily brushable block entities: dimension -> chunk -> packed BlockPos.
+ * Registering, unregistering and lookups are O(1), and whole chunks can be dropped when
+ * they unload.
+ * Only touched from the server thread.
+ */
+public class BrushableBlockIndex {
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Long2ObjectMap<DailyBrushableBlockEntity>>> byLevel = new HashMap<>();
+    private int size = 0;
+
+    public void add(DailyBrushableBlockEntity blockEntity) {
+        Level level = blockEntity.getLevel();
+        if (level == null) return;
+
+        BlockPos pos = blockEntity.getBlockPos();
+        Long2ObjectMap<DailyBrushableBlockEntity> chunk = byLevel
+                .computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos), key -> new Long2ObjectOpenHashMap<>());
+        if (chunk.put(pos.asLong(), blockEntity) == null) {
+            size++;
+        }
+    }
+
+    public void remove(DailyBrushableBlockEntity blockEntity) {
+        Level level = blockEntity.getLevel();
+        if (level == null) return;
+
+        Long2ObjectMap<Long2ObjectMap<DailyBrushableBlockEntity>> chunks = byLevel.get(level.dimension());
+        if (chunks == null) return;
+
+        BlockPos pos = blockEntity.getBlockPos();
+        long chunkKey = ChunkPos.asLong(pos);
+        Long2ObjectMap<DailyBrushableBlockEntity> chunk = chunks.get(chunkKey);
+        // Only remove if the slot still holds this instance; a replacement may already be registered
+        if (chunk != null && chunk.get(pos.asLong()) == blockEntity) {
+            chunk.remove(pos.asLong());
+            size--;
+            if (chunk.isEmpty()) {
+                chunks.remove(chunkKey);
+            }
+        }
+    }
+
+    public void removeChunk(ResourceKey<Level> dimension, long chunkKey) {
+        Long2ObjectMap<Long2ObjectMap<DailyBrushableBlockEntity>> chunks = byLevel.get(dimension);
+        if (chunks == null) return;
+
+        Long2ObjectMap<DailyBrushableBlockEntity> chunk = chunks.remove(chunkKey);
+        if (chunk != null) {
+            size -= chunk.size();
+        }
+    }
+
+    @Nullable
+    public DailyBrushableBlockEntity get(ResourceKey<Level> dimension, long packedPos) {
+        Long2ObjectMap<Long2ObjectMap<DailyBrushableBlockEntity>> chunks = byLevel.get(dimension);
+        if (chunks == null) return null;
+
+        Long2ObjectMap<DailyBrushableBlockEntity> chunk = chunks.get(
+                ChunkPos.asLong(BlockPos.getX(packedPos) >> 4, BlockPos.getZ(packedPos) >> 4));
+        return chunk == null ? null : chunk.get(packedPos);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        byLevel.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+
+/**
+ * Client-side copy of which daily brushable blocks the local player has harvested today,
+ * bucketed by chunk. Filled from the harvest payloads sent by the server.
+ * Only registered on the physical client.
+ */
+public class ClientHarvestCache {
+    private static final Long2ObjectMap<LongSet> harvestedByChunk = new Long2ObjectOpenHashMap<>();
+
+    public static boolean isHarvested(BlockPos pos) {
+        LongSet harvested = harvestedByChunk.get(ChunkPos.asLong(pos));
+        return harvested != null && harvested.contains(pos.asLong());
+    }
+
+    public static void setChunk(int chunkX, int chunkZ, long[] harvestedPositions) {
+        long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+        if (harvestedPositions.length == 0) {
+            harvestedByChunk.remove(chunkKey);
+        } else {
+            harvestedByChunk.put(chunkKey, new LongOpenHashSet(harvestedPositions));
+        }
+    }
+
+    public static void set(long packedPos, boolean harvested) {
+        long chunkKey = ChunkPos.asLong(BlockPos.getX(packedPos) >> 4, BlockPos.getZ(packedPos) >> 4);
+        if (harvested) {
+            harvestedByChunk.computeIfAbsent(chunkKey, key -> new LongOpenHashSet()).add(packedPos);
+        } else {
+            LongSet chunkSet = harvestedByChunk.get(chunkKey);
+            if (chunkSet != null && chunkSet.remove(packedPos) && chunkSet.isEmpty()) {
+                harvestedByChunk.remove(chunkKey);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            harvestedByChunk.remove(event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        harvestedByChunk.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerClone(ClientPlayerNetworkEvent.Clone event) {
+        // Respawn or dimension change; the server resends harvests with the new chunks
+        harvestedByChunk.clear();
+    }
+}
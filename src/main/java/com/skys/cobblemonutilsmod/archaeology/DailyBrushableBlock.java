@@ -46,25 +46,27 @@ public class DailyBrushableBlock extends Block implements EntityBlock {
         return RenderShape.MODEL;
     }
 
+    // Brushing sessions are ticked by the BrushSessionTicker; the block only schedules a tick
+    // when it may need to fall, so idle blocks stay out of the level tick queue.
+
     @Override
     public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
-        level.scheduleTick(pos, this, 2);
+        if (FallingBlock.isFree(level.getBlockState(pos.below()))) {
+            level.scheduleTick(pos, this, 2);
+        }
     }
 
     @Override
     public BlockState updateShape(BlockState state, Direction direction, BlockState neighborState,
                                    LevelAccessor level, BlockPos pos, BlockPos neighborPos) {
-        level.scheduleTick(pos, this, 2);
+        if (direction == Direction.DOWN && FallingBlock.isFree(neighborState)) {
+            level.scheduleTick(pos, this, 2);
+        }
         return super.updateShape(state, direction, neighborState, level, pos, neighborPos);
     }
 
     @Override
     public void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
-        BlockEntity blockEntity = level.getBlockEntity(pos);
-        if (blockEntity instanceof DailyBrushableBlockEntity brushable) {
-            brushable.checkReset();
-        }
-
         // Handle falling behavior like suspicious sand/gravel
         if (FallingBlock.isFree(level.getBlockState(pos.below())) && pos.getY() >= level.getMinBuildHeight()) {
             FallingBlockEntity fallingBlock = FallingBlockEntity.fall(level, pos, state);
@@ -1,15 +1,21 @@
 package com.skys.cobblemonutilsmod.archaeology;
 
+import com.skys.cobblemonutilsmod.Config;
 import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.feedback.FeedbackMessage;
+import com.skys.cobblemonutilsmod.metrics.BrushCompletionEvent;
+import com.skys.cobblemonutilsmod.metrics.ModMetrics;
+import com.skys.cobblemonutilsmod.network.ModNetworking;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -28,14 +34,8 @@ import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 
 public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable {
@@ -47,20 +47,24 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
     private static final int BRUSH_COOLDOWN_TICKS = 10;
     private static final int BRUSH_RESET_TICKS = 40;
     private static final int REQUIRED_BRUSHES = 10;
+    // How long a stopped session keeps its rolled loot, so a quick restart doesn't reroll it
+    private static final int PAUSED_SESSION_TICKS = 200;
 
-    // Per-player tracking
-    private final Set<UUID> brushedPlayers = new HashSet<>();
-    private LocalDate lastResetDate = LocalDate.now(ZoneId.systemDefault());
+    // Shared by every block; rebuilt at most once per countdown second
+    private static final FeedbackMessage ALREADY_HARVESTED = FeedbackMessage.timed(
+            ResetClock::secondsUntilReset,
+            seconds -> Component.literal("Already harvested today! Resets in: " + ResetClock.countdown())
+    );
 
-    // Brushing state
-    private int brushCount = 0;
-    private long brushCountResetsAtTick = 0;
-    private long coolDownEndsAtTick = 0;
-    @Nullable
-    private UUID brushingPlayerUUID;
+    // Harvests saved by older versions, moved into the HarvestLedger once the level is known
     @Nullable
-    private Direction hitDirection;
-    private ItemStack currentItem = ItemStack.EMPTY;
+    private UuidSet legacyBrushedPlayers;
+    private long legacyResetDay;
+
+    // Brushing state, one session per player brushing this block
+    private final BrushSessionTable sessions = new BrushSessionTable();
+    // Slot in the BrushSessionTicker's active array, or -1 when idle
+    int tickerSlot = -1;
 
     // Loot table (configurable via datapack)
     private ResourceKey<LootTable> lootTable = DEFAULT_LOOT_TABLE;
@@ -73,8 +77,21 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
     @Override
     public void onLoad() {
         super.onLoad();
-        if (level != null && !level.isClientSide()) {
+        if (level instanceof ServerLevel serverLevel) {
             DailyResetManager.registerBlock(this);
+
+            if (legacyBrushedPlayers != null) {
+                HarvestLedger.get(serverLevel).importLegacy(worldPosition, legacyResetDay, legacyBrushedPlayers);
+                legacyBrushedPlayers = null;
+                setChanged();
+            }
+
+            // Harvests may have been reset while this chunk was unloaded; let tickSession fix the visual
+            BlockState state = getBlockState();
+            if (state.hasProperty(BlockStateProperties.DUSTED) && state.getValue(BlockStateProperties.DUSTED) != 0
+                    && !HarvestLedger.get(serverLevel).hasAnyHarvest(worldPosition)) {
+                BrushSessionTicker.activate(this);
+            }
         }
     }
 
@@ -82,40 +99,59 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
     public void setRemoved() {
         super.setRemoved();
         DailyResetManager.unregisterBlock(this);
+        BrushSessionTicker.deactivate(this);
+        sessions.clear();
     }
 
     public boolean hasLootAvailable(ServerPlayer player) {
-        checkAndResetForNewDay();
-        return !brushedPlayers.contains(player.getUUID());
+        return !hasBrushedToday(player.getUUID());
     }
 
-    private void checkAndResetForNewDay() {
-        if (level == null) return;
-        LocalDate today = LocalDate.now(ZoneId.systemDefault());
-        if (today.isAfter(lastResetDate)) {
-            resetForNewDay();
-        }
+    @Nullable
+    private HarvestLedger getLedger() {
+        return level instanceof ServerLevel serverLevel ? HarvestLedger.get(serverLevel) : null;
     }
 
+    /**
+     * Refreshes the block after its harvests were cleared (daily rollover or a reset command).
+     * The harvest data itself lives in the HarvestLedger and is already reset by the time this runs.
+     */
     public void resetForNewDay() {
-        brushedPlayers.clear();
-        lastResetDate = LocalDate.now(ZoneId.systemDefault());
-        setChanged();
-        if (level != null && !level.isClientSide()) {
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        // Drop paused sessions whose rolled loot belongs to an earlier period
+        long today = ResetClock.currentDay();
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            if (sessions.brushCount(i) == 0 && sessions.lootDay(i) != today) {
+                sessions.remove(i);
+            }
         }
+
+        // The ResetPipeline may reach this block after someone already harvested it in the new period
+        UuidSet.View harvesters = HarvestLedger.get(serverLevel).harvesters(worldPosition);
+        updateDustedState();
+        ModNetworking.sendBlockCleared(serverLevel, worldPosition, harvesters);
     }
 
     public void forceReset() {
+        HarvestLedger ledger = getLedger();
+        if (ledger != null) {
+            ledger.resetBlock(worldPosition);
+        }
         resetForNewDay();
         SkysCobblemonUtils.LOGGER.info("Force reset brushable block at {}", worldPosition);
     }
 
     public void resetForPlayer(UUID playerUUID) {
-        if (brushedPlayers.remove(playerUUID)) {
-            setChanged();
-            if (level != null && !level.isClientSide()) {
-                level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+        HarvestLedger ledger = getLedger();
+        if (ledger != null && ledger.resetPlayer(worldPosition, playerUUID)) {
+            if (!ledger.hasAnyHarvest(worldPosition)) {
+                resetForNewDay();
+            } else {
+                ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerUUID);
+                if (player != null) {
+                    ModNetworking.sendHarvestUpdate(player, worldPosition, false);
+                }
             }
         }
     }
@@ -129,66 +165,84 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
         if (!(player instanceof ServerPlayer serverPlayer)) {
             return false;
         }
+        ModMetrics.BRUSH_CALLS.increment();
 
         // Check if this player can brush (hasn't brushed today)
         if (!hasLootAvailable(serverPlayer)) {
             return false;
         }
 
-        // Check if another player is currently brushing
-        if (brushingPlayerUUID != null && !brushingPlayerUUID.equals(player.getUUID())) {
-            return false;
-        }
-
-        // Set the brushing player
-        if (brushingPlayerUUID == null) {
-            brushingPlayerUUID = player.getUUID();
-        }
+        // Other players brushing the same block have their own sessions
+        int slot = sessions.findOrAdd(player.getUUID());
 
-        if (hitDirection == null) {
-            hitDirection = direction;
+        if (sessions.hitDirection(slot) == null) {
+            sessions.setHitDirection(slot, direction);
         }
 
-        brushCountResetsAtTick = gameTime + BRUSH_RESET_TICKS;
+        sessions.setBrushCountResetsAtTick(slot, gameTime + BRUSH_RESET_TICKS);
 
-        if (gameTime >= coolDownEndsAtTick && level instanceof ServerLevel serverLevel) {
-            coolDownEndsAtTick = gameTime + BRUSH_COOLDOWN_TICKS;
-            int previousState = getCompletionState();
+        if (gameTime >= sessions.coolDownEndsAtTick(slot)) {
+            sessions.setCoolDownEndsAtTick(slot, gameTime + BRUSH_COOLDOWN_TICKS);
+            int brushCount = sessions.brushCount(slot) + 1;
+            sessions.setBrushCount(slot, brushCount);
 
-            if (++brushCount >= REQUIRED_BRUSHES) {
-                brushingCompleted(serverPlayer);
+            if (brushCount >= REQUIRED_BRUSHES) {
+                brushingCompleted(serverPlayer, slot);
                 return true;
-            } else {
-                level.scheduleTick(worldPosition, getBlockState().getBlock(), 2);
-                int newState = getCompletionState();
-                if (previousState != newState) {
-                    BlockState newBlockState = getBlockState().setValue(BlockStateProperties.DUSTED, newState);
-                    level.setBlock(worldPosition, newBlockState, 3);
-                }
-                return false;
             }
+            BrushSessionTicker.activate(this);
+            updateDustedState();
         }
 
         return false;
     }
 
-    private void brushingCompleted(ServerPlayer player) {
+    private void brushingCompleted(ServerPlayer player, int slot) {
         if (level == null || level.isClientSide()) return;
-
-        // Generate and drop the loot
-        ItemStack lootItem = generateLoot(player);
+        ModMetrics.BRUSH_COMPLETIONS.increment();
+        BrushCompletionEvent event = new BrushCompletionEvent();
+        event.begin();
+
+        // Drop the loot rolled for this session
+        long lootStart = System.nanoTime();
+        ItemStack lootItem = getSessionLoot(player, slot);
+        long lootTime = System.nanoTime() - lootStart;
         if (!lootItem.isEmpty()) {
-            dropItem(lootItem);
+            dropItem(lootItem.copy(), sessions.hitDirection(slot));
         }
+        sessions.remove(slot);
 
         // Mark this player as having brushed today
-        brushedPlayers.add(player.getUUID());
-
-        // Reset brushing state but keep the block visually "depleted" (dusted state 3)
-        resetBrushingStateKeepVisual();
+        HarvestLedger.get((ServerLevel) level).markHarvested(worldPosition, player.getUUID());
+        ModNetworking.sendHarvestUpdate(player, worldPosition, true);
+
+        // The block stays visually "depleted" (dusted state 3) until the daily reset
+        updateDustedState();
+
+        if (event.shouldCommit()) {
+            event.dimension = level.dimension().location().toString();
+            event.x = worldPosition.getX();
+            event.y = worldPosition.getY();
+            event.z = worldPosition.getZ();
+            event.player = player.getGameProfile().getName();
+            event.loot = lootItem.isEmpty() ? "" : lootItem.getCount() + "x " + BuiltInRegistries.ITEM.getKey(lootItem.getItem());
+            event.lootTime = lootTime;
+            event.commit();
+        }
+    }
 
-        setChanged();
-        level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+    /**
+     * Rolls the loot table at most once per (player, block, period) and reuses the result
+     * for the preview item and the completion drop.
+     */
+    private ItemStack getSessionLoot(ServerPlayer player, int slot) {
+        long today = ResetClock.currentDay();
+        if (sessions.lootDay(slot) != today) {
+            long start = System.nanoTime();
+            sessions.setLoot(slot, generateLoot(player), today);
+            ModMetrics.LOOT_GENERATION.recordSince(start);
+        }
+        return sessions.loot(slot);
     }
 
     private ItemStack generateLoot(ServerPlayer player) {
@@ -196,8 +250,7 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
             return ItemStack.EMPTY;
         }
 
-        LootTable table = serverLevel.getServer().reloadableRegistries()
-                .getLootTable(lootTable);
+        LootTable table = LootTableCache.get(serverLevel.getServer(), lootTable);
 
         LootParams.Builder builder = new LootParams.Builder(serverLevel)
                 .withParameter(LootContextParams.ORIGIN, Vec3.atCenterOf(worldPosition))
@@ -206,7 +259,16 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
 
         LootParams params = builder.create(LootContextParamSets.CHEST);
 
-        for (ItemStack stack : table.getRandomItems(params, lootTableSeed != 0 ? lootTableSeed : serverLevel.getRandom().nextLong())) {
+        long seed;
+        if (lootTableSeed != 0) {
+            seed = lootTableSeed;
+        } else if (Config.DETERMINISTIC_LOOT.get()) {
+            seed = deterministicSeed(serverLevel.getSeed(), worldPosition.asLong(), ResetClock.currentDay(), player.getUUID());
+        } else {
+            seed = serverLevel.getRandom().nextLong();
+        }
+
+        for (ItemStack stack : table.getRandomItems(params, seed)) {
             if (!stack.isEmpty()) {
                 return stack; // Return only the first item (archaeology gives 1 item)
             }
@@ -215,7 +277,26 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
         return ItemStack.EMPTY;
     }
 
-    private void dropItem(ItemStack item) {
+    /**
+     * Mixes the inputs with SplitMix64 finalizers so neighbouring positions, consecutive
+     * periods and similar UUIDs still produce unrelated seeds.
+     */
+    public static long deterministicSeed(long worldSeed, long packedPos, long period, UUID playerUUID) {
+        long h = mix(worldSeed ^ 0x9E3779B97F4A7C15L);
+        h = mix(h ^ packedPos);
+        h = mix(h ^ period);
+        h = mix(h ^ playerUUID.getMostSignificantBits());
+        return mix(h ^ playerUUID.getLeastSignificantBits());
+    }
+
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void dropItem(ItemStack item, @Nullable Direction hitDirection) {
         if (level == null || item.isEmpty()) return;
 
         Direction dir = Objects.requireNonNullElse(hitDirection, Direction.UP);
@@ -230,87 +311,61 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
         level.addFreshEntity(itemEntity);
     }
 
-    public void checkReset() {
-        if (level == null) return;
-
-        // If any players have brushed today, keep the block at dusted state 3
-        // Don't reset the visual appearance until the daily reset
-        if (!brushedPlayers.isEmpty()) {
-            // Just reset the brushing state variables, but keep visual at state 3
-            brushingPlayerUUID = null;
-            hitDirection = null;
-            brushCount = 0;
-            brushCountResetsAtTick = 0;
-            coolDownEndsAtTick = 0;
-            currentItem = ItemStack.EMPTY;
-
-            // Ensure block stays at dusted state 3 (harvested appearance)
-            if (!level.isClientSide()) {
-                BlockState state = getBlockState();
-                if (state.hasProperty(BlockStateProperties.DUSTED) && state.getValue(BlockStateProperties.DUSTED) != 3) {
-                    level.setBlock(worldPosition, state.setValue(BlockStateProperties.DUSTED, 3), 3);
-                }
+    /**
+     * Runs decay for every brushing session on this block. Called every tick by the
+     * BrushSessionTicker while any session is active or paused; returns false once none are left.
+     */
+    boolean tickSession() {
+        if (level == null) return false;
+
+        long gameTime = level.getGameTime();
+        long today = ResetClock.currentDay();
+        boolean active = false;
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            int brushCount = sessions.brushCount(i);
+            if (brushCount != 0 && gameTime >= sessions.brushCountResetsAtTick(i)) {
+                brushCount = Math.max(0, brushCount - 2);
+                sessions.setBrushCount(i, brushCount);
+                sessions.setBrushCountResetsAtTick(i, gameTime + 4L);
             }
-            return;
-        }
-
-        if (brushCount != 0 && level.getGameTime() >= brushCountResetsAtTick) {
-            int previousState = getCompletionState();
-            brushCount = Math.max(0, brushCount - 2);
-            int newState = getCompletionState();
 
-            if (previousState != newState) {
-                level.setBlock(worldPosition, getBlockState().setValue(BlockStateProperties.DUSTED, newState), 3);
+            if (brushCount != 0) {
+                active = true;
+            } else if (sessions.lootDay(i) == today
+                    && gameTime < sessions.brushCountResetsAtTick(i) + PAUSED_SESSION_TICKS) {
+                // Paused: keep the rolled loot for a while so stopping and restarting doesn't reroll it
+                sessions.setHitDirection(i, null);
+                sessions.setCoolDownEndsAtTick(i, 0);
+                active = true;
+            } else {
+                sessions.remove(i);
             }
-
-            brushCountResetsAtTick = level.getGameTime() + 4L;
-        }
-
-        if (brushCount == 0) {
-            resetBrushingState();
-        } else {
-            level.scheduleTick(worldPosition, getBlockState().getBlock(), 2);
         }
-    }
-
-    private void resetBrushingState() {
-        brushingPlayerUUID = null;
-        hitDirection = null;
-        brushCount = 0;
-        brushCountResetsAtTick = 0;
-        coolDownEndsAtTick = 0;
-        currentItem = ItemStack.EMPTY;
 
-        if (level != null && !level.isClientSide()) {
-            BlockState state = getBlockState();
-            if (state.hasProperty(BlockStateProperties.DUSTED) && state.getValue(BlockStateProperties.DUSTED) != 0) {
-                level.setBlock(worldPosition, state.setValue(BlockStateProperties.DUSTED, 0), 3);
-            }
-        }
+        updateDustedState();
+        return active;
     }
 
     /**
-     * Resets the brushing state but keeps the visual "depleted" appearance (dusted = 3).
-     * Used when a player completes brushing so the block shows it's been harvested.
+     * The DUSTED visual is shared by everyone: harvested blocks stay at 3 until the daily
+     * reset, otherwise it follows the furthest-along session.
      */
-    private void resetBrushingStateKeepVisual() {
-        brushingPlayerUUID = null;
-        hitDirection = null;
-        brushCount = 0;
-        brushCountResetsAtTick = 0;
-        coolDownEndsAtTick = 0;
-        currentItem = ItemStack.EMPTY;
-
-        // Keep the block at dusted state 3 to show it's been harvested
-        if (level != null && !level.isClientSide()) {
-            BlockState state = getBlockState();
-            if (state.hasProperty(BlockStateProperties.DUSTED) && state.getValue(BlockStateProperties.DUSTED) != 3) {
-                level.setBlock(worldPosition, state.setValue(BlockStateProperties.DUSTED, 3), 3);
-            }
+    private void updateDustedState() {
+        if (level == null || level.isClientSide()) return;
+
+        BlockState state = getBlockState();
+        if (!state.hasProperty(BlockStateProperties.DUSTED)) return;
+
+        HarvestLedger ledger = getLedger();
+        int dusted = ledger != null && ledger.hasAnyHarvest(worldPosition)
+                ? 3
+                : getCompletionState(sessions.maxBrushCount());
+        if (state.getValue(BlockStateProperties.DUSTED) != dusted) {
+            level.setBlock(worldPosition, state.setValue(BlockStateProperties.DUSTED, dusted), 3);
         }
     }
 
-    private int getCompletionState() {
+    private static int getCompletionState(int brushCount) {
         if (brushCount == 0) return 0;
         if (brushCount < 3) return 1;
         if (brushCount < 6) return 2;
@@ -318,27 +373,36 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
     }
 
     public ItemStack getItem(Player player) {
-        if (brushingPlayerUUID != null && brushingPlayerUUID.equals(player.getUUID())) {
-            if (currentItem.isEmpty() && level instanceof ServerLevel serverLevel && player instanceof ServerPlayer serverPlayer) {
-                currentItem = generateLoot(serverPlayer);
-            }
-            return currentItem;
+        int slot = sessions.find(player.getUUID());
+        if (slot >= 0 && sessions.brushCount(slot) > 0 && player instanceof ServerPlayer serverPlayer) {
+            return getSessionLoot(serverPlayer, slot);
         }
         return ItemStack.EMPTY;
     }
 
     @Nullable
-    public Direction getHitDirection() {
-        return hitDirection;
+    public Direction getHitDirection(Player player) {
+        int slot = sessions.find(player.getUUID());
+        return slot >= 0 ? sessions.hitDirection(slot) : null;
     }
 
+    /**
+     * On the client only the local player's harvests are known, so the UUID is not consulted there.
+     */
     public boolean hasBrushedToday(UUID playerUUID) {
-        checkAndResetForNewDay();
-        return brushedPlayers.contains(playerUUID);
+        if (level != null && level.isClientSide()) {
+            return ClientHarvestCache.isHarvested(worldPosition);
+        }
+        HarvestLedger ledger = getLedger();
+        return ledger != null && ledger.hasHarvested(worldPosition, playerUUID);
     }
 
-    public Set<UUID> getBrushedPlayers() {
-        return new HashSet<>(brushedPlayers);
+    /**
+     * Players who harvested this block today, as a read-only view of the ledger entry.
+     */
+    public UuidSet.View getBrushedPlayers() {
+        HarvestLedger ledger = getLedger();
+        return ledger == null ? UuidSet.View.EMPTY : ledger.harvesters(worldPosition);
     }
 
     public void setLootTable(ResourceKey<LootTable> lootTable, long seed) {
@@ -351,23 +415,12 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
 
     @Override
     @Nullable
-    public net.minecraft.network.chat.Component brushableBlock$getUnavailableMessage(Player player) {
+    public FeedbackMessage brushableBlock$getUnavailableMessage(Player player) {
         if (!hasBrushedToday(player.getUUID())) {
             return null; // Player can brush, no message needed
         }
 
-        // Calculate time until reset
-        ZoneId zone = ZoneId.systemDefault();
-        LocalDateTime now = LocalDateTime.now(zone);
-        LocalDateTime midnight = LocalDateTime.of(LocalDate.now(zone).plusDays(1), LocalTime.MIDNIGHT);
-        Duration timeUntilReset = Duration.between(now, midnight);
-
-        long hours = timeUntilReset.toHours();
-        long minutes = timeUntilReset.toMinutesPart();
-        long seconds = timeUntilReset.toSecondsPart();
-
-        String countdown = String.format("%02d:%02d:%02d", hours, minutes, seconds);
-        return net.minecraft.network.chat.Component.literal("Already harvested today! Resets in: " + countdown);
+        return ALREADY_HARVESTED;
     }
 
     @Override
@@ -386,27 +439,8 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
             tag.putLong("LootTableSeed", lootTableSeed);
         }
 
-        // Save brushed players
-        ListTag playersTag = new ListTag();
-        for (UUID uuid : brushedPlayers) {
-            playersTag.add(NbtUtils.createUUID(uuid));
-        }
-        tag.put("BrushedPlayers", playersTag);
-
-        // Save last reset date
-        tag.putString("LastResetDate", lastResetDate.toString());
-
-        // Save current brushing state
-        if (hitDirection != null) {
-            tag.putInt("HitDirection", hitDirection.ordinal());
-        }
-        if (brushingPlayerUUID != null) {
-            tag.putUUID("BrushingPlayer", brushingPlayerUUID);
-        }
-        tag.putInt("BrushCount", brushCount);
-
-        // Add countdown data for display mods (Jade/WAILA/TheOneProbe)
-        addCountdownData(tag);
+        // Only durable fields are saved. Harvests are persisted by the HarvestLedger,
+        // brushing progress decays within seconds and the countdown is display-only.
     }
 
     @Override
@@ -422,98 +456,28 @@ public class DailyBrushableBlockEntity extends BlockEntity implements IBrushable
             lootTableSeed = tag.getLong("LootTableSeed");
         }
 
-        // Load brushed players
-        brushedPlayers.clear();
-        if (tag.contains("BrushedPlayers")) {
+        // Migrate brushed players saved before the HarvestLedger existed (imported in onLoad)
+        if (tag.contains("BrushedPlayers") && tag.contains("LastResetDate")) {
+            UuidSet players = new UuidSet();
             ListTag playersTag = tag.getList("BrushedPlayers", Tag.TAG_INT_ARRAY);
             for (Tag playerTag : playersTag) {
-                brushedPlayers.add(NbtUtils.loadUUID(playerTag));
+                players.add(NbtUtils.loadUUID(playerTag));
             }
-        }
-
-        // Load last reset date
-        if (tag.contains("LastResetDate")) {
             try {
-                lastResetDate = LocalDate.parse(tag.getString("LastResetDate"));
+                legacyResetDay = LocalDate.parse(tag.getString("LastResetDate")).toEpochDay();
+                legacyBrushedPlayers = players;
             } catch (Exception e) {
-                lastResetDate = LocalDate.now(ZoneId.systemDefault());
-            }
-        }
-
-        // Load current brushing state
-        if (tag.contains("HitDirection")) {
-            hitDirection = Direction.values()[tag.getInt("HitDirection")];
-        }
-        if (tag.contains("BrushingPlayer")) {
-            brushingPlayerUUID = tag.getUUID("BrushingPlayer");
-        }
-        brushCount = tag.getInt("BrushCount");
-
-        // Check if we need to reset for a new day
-        checkAndResetForNewDay();
-    }
-
-    @Override
-    public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
-        CompoundTag tag = super.getUpdateTag(registries);
-
-        if (hitDirection != null) {
-            tag.putInt("HitDirection", hitDirection.ordinal());
-        }
-        if (brushingPlayerUUID != null) {
-            tag.putUUID("BrushingPlayer", brushingPlayerUUID);
-            if (!currentItem.isEmpty()) {
-                tag.put("Item", currentItem.save(registries));
+                legacyBrushedPlayers = null;
             }
         }
-
-        // Send brushed players to client for visual feedback
-        ListTag playersTag = new ListTag();
-        for (UUID uuid : brushedPlayers) {
-            playersTag.add(NbtUtils.createUUID(uuid));
-        }
-        tag.put("BrushedPlayers", playersTag);
-
-        // Add countdown information for display mods (WAILA/Jade/TheOneProbe)
-        addCountdownData(tag);
-
-        return tag;
     }
 
     /**
-     * Adds countdown data to the NBT tag for display by mods like Jade/WAILA/TheOneProbe.
+     * Writes display data for mods like Jade/TheOneProbe. Only the next reset instant is sent;
+     * the client turns it into a countdown itself so the data doesn't change every second.
      */
-    private void addCountdownData(CompoundTag tag) {
-        ZoneId zone = ZoneId.systemDefault();
-        LocalDateTime now = LocalDateTime.now(zone);
-        LocalDateTime midnight = LocalDateTime.of(LocalDate.now(zone).plusDays(1), LocalTime.MIDNIGHT);
-        Duration timeUntilReset = Duration.between(now, midnight);
-
-        // Total seconds until reset
-        long secondsUntilReset = timeUntilReset.getSeconds();
-        tag.putLong("SecondsUntilReset", secondsUntilReset);
-
-        // Human-readable breakdown
-        long hours = timeUntilReset.toHours();
-        long minutes = timeUntilReset.toMinutesPart();
-        long seconds = timeUntilReset.toSecondsPart();
-        tag.putInt("HoursUntilReset", (int) hours);
-        tag.putInt("MinutesUntilReset", (int) minutes);
-        tag.putInt("SecondsPartUntilReset", (int) seconds);
-
-        // Formatted string for easy display
-        String countdown = String.format("%02d:%02d:%02d", hours, minutes, seconds);
-        tag.putString("ResetCountdown", countdown);
-
-        // Number of players who have brushed today
-        tag.putInt("PlayersBrushedToday", brushedPlayers.size());
-
-        // Timezone info
-        tag.putString("Timezone", zone.getId());
-    }
-
-    @Override
-    public ClientboundBlockEntityDataPacket getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+    public void writeDisplayData(CompoundTag tag) {
+        tag.putLong("NextReset", ResetClock.nextResetMillis());
+        tag.putInt("PlayersBrushedToday", getBrushedPlayers().size());
     }
 }
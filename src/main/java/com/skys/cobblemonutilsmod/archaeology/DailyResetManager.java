@@ -1,115 +1,211 @@
 package com.skys.cobblemonutilsmod.archaeology;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.skys.cobblemonutilsmod.Config;
 import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.metrics.ResetBatchEvent;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.arguments.EntityArgument;
+import net.minecraft.commands.arguments.ResourceLocationArgument;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.storage.loot.LootTable;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DailyResetManager {
-    private static LocalDate lastCheckedDate = null;
+    private static long lastCheckedDay = Long.MIN_VALUE;
     private static int tickCounter = 0;
     private static final int CHECK_INTERVAL_TICKS = 20; // Check once per second
+    private static final int MAX_SIMULATED_ROLLS = 100_000;
+    private static final int SIMULATE_REPORT_LIMIT = 15;
+    private static final int MAX_PENDING_SIMULATIONS = 4;
 
-    // Track all daily brushable block entities using thread-safe list
-    private static final List<DailyBrushableBlockEntity> trackedBlocks = new CopyOnWriteArrayList<>();
+    // Loot simulations in progress, advanced under their own tick budget
+    private static final List<PendingSimulation> simulations = new ArrayList<>();
+
+    private record PendingSimulation(CommandSourceStack source, ResourceLocation tableId, LootSimulator.Run run) {
+    }
+
+    // Loaded daily brushable block entities, indexed by dimension and chunk (server thread only)
+    private static final BrushableBlockIndex trackedBlocks = new BrushableBlockIndex();
 
     public static void registerBlock(DailyBrushableBlockEntity blockEntity) {
-        if (!trackedBlocks.contains(blockEntity)) {
-            trackedBlocks.add(blockEntity);
-        }
+        trackedBlocks.add(blockEntity);
     }
 
     public static void unregisterBlock(DailyBrushableBlockEntity blockEntity) {
         trackedBlocks.remove(blockEntity);
     }
 
+    public static BrushableBlockIndex getTrackedBlocks() {
+        return trackedBlocks;
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            trackedBlocks.removeChunk(level.dimension(), event.getChunk().getPos().toLong());
+        }
+    }
+
     @SubscribeEvent
     public static void onServerTick(ServerTickEvent.Post event) {
+        // Advance active brushing sessions and refresh queued blocks every tick
+        BrushSessionTicker.tick();
+        ResetPipeline.drain();
+        stepSimulations();
+
+        boolean newPeriod = ResetClock.tick();
+
         tickCounter++;
-        if (tickCounter < CHECK_INTERVAL_TICKS) {
+        if (tickCounter < CHECK_INTERVAL_TICKS && !newPeriod) {
             return;
         }
         tickCounter = 0;
 
-        // Clean up unloaded blocks
-        trackedBlocks.removeIf(block -> block.isRemoved() || block.getLevel() == null);
-
         MinecraftServer server = event.getServer();
-        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        long today = ResetClock.currentDay();
 
-        if (lastCheckedDate == null) {
-            lastCheckedDate = today;
+        if (lastCheckedDay == Long.MIN_VALUE) {
+            // First check after startup: refresh anything left over from before the restart
+            lastCheckedDay = today;
+            refreshStaleBlocks(server, false);
             return;
         }
 
-        if (today.isAfter(lastCheckedDate)) {
-            SkysCobblemonUtils.LOGGER.info("Midnight detected! Resetting all daily brushable blocks...");
-            resetAllBrushableBlocks(server, true);
-            lastCheckedDate = today;
+        if (today > lastCheckedDay) {
+            SkysCobblemonUtils.LOGGER.info("Midnight detected! Refreshing harvested daily brushable blocks...");
+            refreshStaleBlocks(server, true);
+            lastCheckedDay = today;
         }
     }
 
-    public static void resetAllBrushableBlocks(MinecraftServer server, boolean showParticles) {
-        int resetCount = 0;
+    /**
+     * Handles the daily rollover. The HarvestLedger already treats yesterday's entries as
+     * empty, so only blocks that were actually harvested need their visuals refreshed,
+     * and those are handed to the ResetPipeline instead of being processed in this tick.
+     */
+    private static void refreshStaleBlocks(MinecraftServer server, boolean showParticles) {
+        ResetBatchEvent event = new ResetBatchEvent();
+        event.begin();
+        int queuedCount = 0;
+
+        for (ServerLevel level : server.getAllLevels()) {
+            LongList stale = HarvestLedger.get(level).pruneStale();
+            ResetPipeline.enqueue(level, stale, showParticles);
+            queuedCount += stale.size();
+        }
 
-        // Clean up unloaded blocks first
-        trackedBlocks.removeIf(block -> block.isRemoved() || block.getLevel() == null);
+        commitResetBatch(event, showParticles ? "rollover" : "startup", queuedCount);
+        SkysCobblemonUtils.LOGGER.info("Queued {} harvested daily brushable blocks for refresh", queuedCount);
+    }
 
-        for (DailyBrushableBlockEntity brushable : new ArrayList<>(trackedBlocks)) {
-            if (brushable.getLevel() instanceof ServerLevel serverLevel) {
-                brushable.forceReset();
-                resetCount++;
+    private static void commitResetBatch(ResetBatchEvent event, String kind, int blocks) {
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.blocks = blocks;
+            event.commit();
+        }
+    }
 
-                if (showParticles) {
-                    spawnResetParticles(serverLevel, brushable.getBlockPos());
-                }
-            }
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        ResetPipeline.clear();
+        BrushSessionTicker.clear();
+        LootTableCache.clear();
+        simulations.clear();
+        trackedBlocks.clear();
+        lastCheckedDay = Long.MIN_VALUE;
+    }
+
+    public static int resetAllBrushableBlocks(MinecraftServer server, boolean showParticles) {
+        ResetBatchEvent event = new ResetBatchEvent();
+        event.begin();
+        int resetCount = 0;
+
+        for (ServerLevel level : server.getAllLevels()) {
+            LongList harvested = HarvestLedger.get(level).resetAll();
+            ResetPipeline.enqueue(level, harvested, showParticles);
+            resetCount += harvested.size();
         }
 
+        commitResetBatch(event, "all", resetCount);
         SkysCobblemonUtils.LOGGER.info("Reset {} daily brushable blocks", resetCount);
+        return resetCount;
+    }
+
+    /**
+     * Resets every block inside the box, including blocks in unloaded chunks. The ledger entries
+     * are cleared directly; loaded blocks are refreshed by the pipeline and unloaded ones fix
+     * their visual in onLoad, so nothing has to be force-loaded.
+     */
+    public static int resetBrushableBlocksInArea(ServerLevel level, BoundingBox box, boolean showParticles) {
+        ResetBatchEvent event = new ResetBatchEvent();
+        event.begin();
+        LongList removed = HarvestLedger.get(level).resetArea(box);
+        ResetPipeline.enqueue(level, removed, showParticles);
+        commitResetBatch(event, "area", removed.size());
+
+        SkysCobblemonUtils.LOGGER.info("Reset {} daily brushable blocks in {} of {}", removed.size(), box, level.dimension().location());
+        return removed.size();
     }
 
     public static void resetBrushableBlocksForPlayer(MinecraftServer server, UUID playerUUID, boolean showParticles) {
+        ResetBatchEvent event = new ResetBatchEvent();
+        event.begin();
         int resetCount = 0;
-
-        // Clean up unloaded blocks first
-        trackedBlocks.removeIf(block -> block.isRemoved() || block.getLevel() == null);
-
-        for (DailyBrushableBlockEntity brushable : new ArrayList<>(trackedBlocks)) {
-            if (brushable.getLevel() instanceof ServerLevel serverLevel) {
-                if (brushable.hasBrushedToday(playerUUID)) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        // Only visit the blocks this player actually harvested, via the ledger's reverse index
+        for (ServerLevel level : server.getAllLevels()) {
+            HarvestLedger ledger = HarvestLedger.get(level);
+            for (long packedPos : ledger.positionsHarvestedBy(playerUUID)) {
+                DailyBrushableBlockEntity brushable = trackedBlocks.get(level.dimension(), packedPos);
+                if (brushable != null && !brushable.isRemoved()) {
                     brushable.resetForPlayer(playerUUID);
-                    resetCount++;
-
                     if (showParticles) {
-                        spawnResetParticles(serverLevel, brushable.getBlockPos());
+                        spawnResetParticles(level, brushable.getBlockPos());
                     }
+                } else {
+                    // Not loaded: the ledger entry is authoritative, the visual catches up in onLoad
+                    ledger.resetPlayer(pos.set(packedPos), playerUUID);
                 }
+                resetCount++;
             }
         }
 
+        commitResetBatch(event, "player", resetCount);
         SkysCobblemonUtils.LOGGER.info("Reset {} daily brushable blocks for player {}", resetCount, playerUUID);
     }
 
-    private static void spawnResetParticles(ServerLevel level, BlockPos pos) {
+    static void spawnResetParticles(ServerLevel level, BlockPos pos) {
         level.sendParticles(
                 ParticleTypes.WAX_ON,
                 pos.getX() + 0.5,
@@ -132,19 +228,42 @@ public class DailyResetManager {
                                 .executes(DailyResetManager::resetAllCommand))
                         .then(Commands.literal("me")
                                 .executes(DailyResetManager::resetMeCommand))
+                        .then(Commands.literal("area")
+                                .then(Commands.argument("from", BlockPosArgument.blockPos())
+                                        .then(Commands.argument("to", BlockPosArgument.blockPos())
+                                                .executes(DailyResetManager::resetAreaCommand))))
                         .then(Commands.literal("player")
                                 .then(Commands.argument("target", EntityArgument.player())
                                         .executes(DailyResetManager::resetPlayerCommand))))
                 .then(Commands.literal("status")
-                        .executes(DailyResetManager::statusCommand)));
+                        .executes(DailyResetManager::statusCommand))
+                .then(Commands.literal("simulate")
+                        .then(Commands.argument("table", ResourceLocationArgument.id())
+                                .suggests((context, builder) -> SharedSuggestionProvider.suggestResource(
+                                        context.getSource().getServer().reloadableRegistries().getKeys(Registries.LOOT_TABLE), builder))
+                                .then(Commands.argument("rolls", IntegerArgumentType.integer(1, MAX_SIMULATED_ROLLS))
+                                        .executes(DailyResetManager::simulateCommand)))));
     }
 
     private static int resetAllCommand(CommandContext<CommandSourceStack> context) {
         CommandSourceStack source = context.getSource();
         MinecraftServer server = source.getServer();
 
-        resetAllBrushableBlocks(server, true);
-        source.sendSuccess(() -> Component.literal("Reset all daily brushable blocks!"), true);
+        int resetCount = resetAllBrushableBlocks(server, true);
+        source.sendSuccess(() -> Component.literal("Reset all daily brushable blocks! Refreshing " + resetCount + " harvested blocks."), true);
+
+        return 1;
+    }
+
+    private static int resetAreaCommand(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        CommandSourceStack source = context.getSource();
+        // getBlockPos, not getLoadedBlockPos: the area may cover unloaded chunks
+        BoundingBox box = BoundingBox.fromCorners(
+                BlockPosArgument.getBlockPos(context, "from"),
+                BlockPosArgument.getBlockPos(context, "to"));
+
+        int resetCount = resetBrushableBlocksInArea(source.getLevel(), box, true);
+        source.sendSuccess(() -> Component.literal("Reset " + resetCount + " harvested daily brushable blocks in the area!"), true);
 
         return 1;
     }
@@ -179,29 +298,90 @@ public class DailyResetManager {
         }
     }
 
-    private static int statusCommand(CommandContext<CommandSourceStack> context) {
-        // Clean up unloaded blocks first
-        trackedBlocks.removeIf(block -> block.isRemoved() || block.getLevel() == null);
+    private static int simulateCommand(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        ResourceLocation tableId = ResourceLocationArgument.getId(context, "table");
+        int rolls = IntegerArgumentType.getInteger(context, "rolls");
+
+        ResourceKey<LootTable> tableKey = ResourceKey.create(Registries.LOOT_TABLE, tableId);
+        if (!source.getServer().reloadableRegistries().getKeys(Registries.LOOT_TABLE).contains(tableId)) {
+            source.sendFailure(Component.literal("Unknown loot table: " + tableId));
+            return 0;
+        }
+
+        if (simulations.size() >= MAX_PENDING_SIMULATIONS) {
+            source.sendFailure(Component.literal("Too many loot simulations queued; try again shortly"));
+            return 0;
+        }
+
+        LootTable table = LootTableCache.get(source.getServer(), tableKey);
+        LootSimulator.Run run = LootSimulator.start(source.getLevel(), source.getPosition(), source.getPlayer(), table,
+                rolls, source.getLevel().getRandom().nextLong());
+        simulations.add(new PendingSimulation(source, tableId, run));
+        source.sendSuccess(() -> Component.literal("Simulating " + rolls + " rolls of " + tableId + "..."), false);
 
+        return 1;
+    }
+
+    /**
+     * Advances the oldest loot simulation by up to its tick budget and reports it when done.
+     */
+    private static void stepSimulations() {
+        if (simulations.isEmpty()) {
+            return;
+        }
+        PendingSimulation simulation = simulations.get(0);
+        if (simulation.run().step(Config.SIMULATION_TICK_BUDGET_NANOS.get())) {
+            simulations.remove(0);
+            reportSimulation(simulation.source(), simulation.tableId(), simulation.run().result());
+        }
+    }
+
+    private static void reportSimulation(CommandSourceStack source, ResourceLocation tableId, LootSimulator.Result result) {
+        int rolls = result.rolls();
+        StringBuilder report = new StringBuilder()
+                .append("Simulated ").append(rolls).append(" rolls of ").append(tableId).append(":\n")
+                .append(String.format("- %.1f ms total, %.0f ns/roll, %.0f rolls/s\n",
+                        result.elapsedNanos() / 1_000_000.0, result.nanosPerRoll(), result.rollsPerSecond()))
+                .append(String.format("- Empty rolls: %d (%.2f%%)", result.emptyRolls(), 100.0 * result.emptyRolls() / rolls));
+
+        List<Object2IntMap.Entry<Item>> sorted = result.sortedCounts();
+        for (int i = 0; i < Math.min(SIMULATE_REPORT_LIMIT, sorted.size()); i++) {
+            Object2IntMap.Entry<Item> entry = sorted.get(i);
+            report.append(String.format("\n- %s: %d (%.2f%%)", BuiltInRegistries.ITEM.getKey(entry.getKey()),
+                    entry.getIntValue(), 100.0 * entry.getIntValue() / rolls));
+        }
+        if (sorted.size() > SIMULATE_REPORT_LIMIT) {
+            report.append("\n- ... and ").append(sorted.size() - SIMULATE_REPORT_LIMIT).append(" more items");
+        }
+
+        String message = report.toString();
+        source.sendSuccess(() -> Component.literal(message), false);
+        SkysCobblemonUtils.LOGGER.info(message);
+    }
+
+    private static int statusCommand(CommandContext<CommandSourceStack> context) {
         int totalCount = trackedBlocks.size();
         int brushedCount = 0;
 
-        for (DailyBrushableBlockEntity brushable : trackedBlocks) {
-            if (!brushable.getBrushedPlayers().isEmpty()) {
-                brushedCount++;
-            }
+        for (ServerLevel level : context.getSource().getServer().getAllLevels()) {
+            brushedCount += HarvestLedger.get(level).activeBlockCount();
         }
 
-        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        LocalDate today = LocalDate.ofEpochDay(ResetClock.currentDay());
         final int finalTotal = totalCount;
         final int finalBrushed = brushedCount;
 
         context.getSource().sendSuccess(() -> Component.literal(
                 "Daily Brushable Blocks Status:\n" +
                 "- Current date: " + today + "\n" +
-                "- Timezone: " + ZoneId.systemDefault() + "\n" +
+                "- Timezone: " + ResetClock.zone() + "\n" +
+                "- Next reset in: " + ResetClock.countdown() + "\n" +
                 "- Loaded blocks: " + finalTotal + "\n" +
-                "- Blocks with activity today: " + finalBrushed
+                "- Blocks with activity today: " + finalBrushed +
+                (ResetPipeline.isRunning()
+                        ? "\n- Reset in progress: " + ResetPipeline.getProcessedCount() + "/" + ResetPipeline.getTotalQueued() + " blocks refreshed"
+                        : "")
         ), false);
 
         return 1;
@@ -0,0 +1,361 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only journal of HarvestLedger changes, one file per dimension next to the ledger's
+ * saved data. The ledger snapshot is only written when the level saves, so the journal is
+ * what keeps harvests and resets across a crash.
+ * <p>
+ * The server thread only offers records to a lock-free queue; a single background thread
+ * batches them into FileChannel writes about once a second. Every record carries a
+ * sequence number, and the ledger saves the last sequence its snapshot includes. When the
+ * level saves, the journal is compacted down to the records newer than that snapshot, and
+ * on load only those newer records are replayed.
+ */
+public final class HarvestJournal {
+    static final int HARVEST = 1;
+    static final int RESET_PLAYER = 2;
+    static final int RESET_BLOCK = 3;
+    static final int RESET_ALL = 4;
+
+    // seq, pos, msb, lsb (longs), day, type (ints)
+    private static final int RECORD_BYTES = 8 * 4 + 4 * 2;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int BUFFER_RECORDS = 1024;
+
+    private static final Map<ResourceKey<Level>, HarvestJournal> journals = new HashMap<>();
+    private static final List<HarvestJournal> open = new CopyOnWriteArrayList<>();
+    private static volatile Thread writerThread;
+    private static volatile boolean running;
+
+    private final Path path;
+    private final Queue<Record> pending = new ConcurrentLinkedQueue<>();
+    // Records taken off pending whose write hasn't succeeded yet; writer thread only
+    private final ArrayDeque<Record> unwritten = new ArrayDeque<>();
+    // Last sequence included in a ledger snapshot, and the newest one the file was compacted to
+    private final AtomicLong snapshotSeq = new AtomicLong();
+    private final AtomicLong compactRequest = new AtomicLong();
+    private long compactedSeq;
+    private FileChannel channel;
+
+    private record Record(long seq, int type, long pos, int day, long msb, long lsb) {
+    }
+
+    private HarvestJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens the journal for the level, replaying records newer than the ledger's snapshot
+     * into it first. Called once per ledger, on the server thread, when the ledger loads.
+     * Returns null if the file can't be opened; the ledger then works without a journal.
+     */
+    @Nullable
+    static HarvestJournal open(ServerLevel level, HarvestLedger ledger) {
+        Path dataDir = DimensionType.getStorageFolder(level.dimension(), level.getServer().getWorldPath(LevelResource.ROOT))
+                .resolve("data");
+        HarvestJournal journal = new HarvestJournal(dataDir.resolve(SkysCobblemonUtils.MOD_ID + "_harvests.journal"));
+        journal.snapshotSeq.set(ledger.journalSeq());
+        journal.compactedSeq = ledger.journalSeq();
+
+        try {
+            Files.createDirectories(dataDir);
+            journal.replay(ledger);
+            journal.ensureOpen();
+            // Drop a record torn by a crash so new appends stay aligned
+            long size = journal.channel.size();
+            if (size % RECORD_BYTES != 0) {
+                journal.channel.truncate(size - size % RECORD_BYTES);
+            }
+        } catch (IOException e) {
+            SkysCobblemonUtils.LOGGER.error("Failed to open harvest journal {}; harvests since the last save won't survive a crash",
+                    journal.path, e);
+            return null;
+        }
+
+        synchronized (HarvestJournal.class) {
+            journals.put(level.dimension(), journal);
+            open.add(journal);
+            startWriter();
+        }
+        return journal;
+    }
+
+    private void replay(HarvestLedger ledger) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        int replayed = 0;
+        long lastSeq = ledger.journalSeq();
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * BUFFER_RECORDS);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    long seq = buffer.getLong();
+                    long pos = buffer.getLong();
+                    long msb = buffer.getLong();
+                    long lsb = buffer.getLong();
+                    int day = buffer.getInt();
+                    int type = buffer.getInt();
+                    // Sequence numbers only grow; anything else is a duplicate and is skipped
+                    if (seq > lastSeq) {
+                        ledger.replay(seq, type, pos, day, msb, lsb);
+                        lastSeq = seq;
+                        replayed++;
+                    }
+                }
+                // Keeps a partial record for the next read; at the end of the file it is
+                // the write the crash interrupted and is dropped
+                buffer.compact();
+            }
+        }
+
+        if (replayed > 0) {
+            SkysCobblemonUtils.LOGGER.info("Replayed {} harvest journal records from {}", replayed, path);
+        }
+    }
+
+    void append(long seq, int type, long pos, long day, long msb, long lsb) {
+        pending.offer(new Record(seq, type, pos, (int) day, msb, lsb));
+    }
+
+    /**
+     * Records that the ledger built a snapshot containing every record up to seq.
+     */
+    void snapshotTaken(long seq) {
+        snapshotSeq.set(seq);
+    }
+
+    /**
+     * Compaction runs when the level saves, by which time the previous snapshot has been
+     * written to disk, so records it contains can be dropped.
+     */
+    @SubscribeEvent
+    public static void onLevelSave(LevelEvent.Save event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            HarvestJournal journal;
+            synchronized (HarvestJournal.class) {
+                journal = journals.get(level.dimension());
+            }
+            if (journal != null) {
+                journal.compactRequest.set(journal.snapshotSeq.get());
+                LockSupport.unpark(writerThread);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        Thread thread;
+        synchronized (HarvestJournal.class) {
+            running = false;
+            thread = writerThread;
+            writerThread = null;
+            journals.clear();
+        }
+        if (thread != null) {
+            // The final save already happened; let the writer flush, compact and close
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(HarvestJournal::writeLoop, "Skys Harvest Journal");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    private static void writeLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * BUFFER_RECORDS);
+        while (true) {
+            boolean stopping = !running;
+            for (HarvestJournal journal : open) {
+                try {
+                    journal.flush(buffer);
+                    long requested = journal.compactRequest.get();
+                    if (stopping) {
+                        requested = journal.snapshotSeq.get();
+                    }
+                    if (requested > journal.compactedSeq) {
+                        journal.compact(requested);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // Unwritten records are kept and retried on the next pass
+                    SkysCobblemonUtils.LOGGER.error("Failed to write harvest journal {}", journal.path, e);
+                }
+            }
+            if (stopping) {
+                for (HarvestJournal journal : open) {
+                    journal.close();
+                }
+                open.clear();
+                return;
+            }
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+        }
+    }
+
+    /**
+     * Writes every pending record. On failure the file is cut back to where this flush
+     * started and the records stay queued, so a retry never leaves duplicates or gaps.
+     */
+    private void flush(ByteBuffer buffer) throws IOException {
+        Record record;
+        while ((record = pending.poll()) != null) {
+            unwritten.add(record);
+        }
+        if (unwritten.isEmpty()) {
+            return;
+        }
+
+        ensureOpen();
+        long start = channel.size();
+        boolean written = false;
+        try {
+            for (Record r : unwritten) {
+                buffer.putLong(r.seq)
+                        .putLong(r.pos)
+                        .putLong(r.msb)
+                        .putLong(r.lsb)
+                        .putInt(r.day)
+                        .putInt(r.type);
+                if (!buffer.hasRemaining()) {
+                    writeFully(buffer);
+                }
+            }
+            writeFully(buffer);
+            channel.force(false);
+            written = true;
+        } finally {
+            buffer.clear();
+            if (written) {
+                unwritten.clear();
+            } else if (channel.isOpen()) {
+                try {
+                    channel.truncate(start);
+                } catch (IOException e) {
+                    SkysCobblemonUtils.LOGGER.warn("Failed to roll back partial write to harvest journal {}", path, e);
+                }
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Drops records up to seq. Records are appended in sequence order, so they form a prefix
+     * found by binary search; any newer records are copied into a fresh file that atomically
+     * replaces the old one.
+     */
+    private void compact(long seq) throws IOException {
+        ensureOpen();
+        long records = channel.size() / RECORD_BYTES;
+        long size = records * RECORD_BYTES;
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long keepFrom = firstRecordAfter(in, records, seq) * RECORD_BYTES;
+
+            if (keepFrom >= size) {
+                channel.truncate(0);
+            } else if (keepFrom > 0) {
+                Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                    in.transferTo(keepFrom, size - keepFrom, out);
+                    out.force(false);
+                }
+                // Some platforms can't replace a file that is still open
+                channel.close();
+                try {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    // Whether or not the move happened, keep appending to whatever file is at path
+                    ensureOpen();
+                }
+            }
+        }
+        compactedSeq = seq;
+    }
+
+    /**
+     * Index of the first of the file's records whose sequence is greater than seq.
+     */
+    private static long firstRecordAfter(FileChannel in, long records, long seq) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+        long low = 0;
+        long high = records;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            header.clear();
+            in.read(header, mid * RECORD_BYTES);
+            if (header.getLong(0) > seq) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            SkysCobblemonUtils.LOGGER.warn("Failed to close harvest journal {}", path, e);
+        }
+    }
+}
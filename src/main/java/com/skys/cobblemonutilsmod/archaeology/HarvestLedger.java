@@ -0,0 +1,356 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-dimension record of which players harvested which daily brushable blocks.
+ * Entries are keyed by packed BlockPos and remember the day they were last written,
+ * so a new day invalidates every entry just by comparing day numbers - no block
+ * entity has to be visited for the data to reset.
+ */
+public class HarvestLedger extends SavedData {
+    private static final String DATA_NAME = SkysCobblemonUtils.MOD_ID + "_harvests";
+
+    private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+
+    // Reverse index: player -> packed positions they harvested in indexDay. Not persisted, rebuilt on load.
+    private final Map<UUID, LongSet> positionsByPlayer = new HashMap<>();
+    private long indexDay = Long.MIN_VALUE;
+
+    // Crash journal; journalSeq is the sequence number of the last change made to this ledger
+    @Nullable
+    private HarvestJournal journal;
+    private boolean journalOpened;
+    private long journalSeq;
+
+    public static HarvestLedger get(ServerLevel level) {
+        HarvestLedger ledger = level.getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(HarvestLedger::new, HarvestLedger::load, null),
+                DATA_NAME
+        );
+        if (!ledger.journalOpened) {
+            // Replays changes made after the last snapshot before anything else touches the ledger
+            ledger.journalOpened = true;
+            ledger.journal = HarvestJournal.open(level, ledger);
+        }
+        return ledger;
+    }
+
+    public boolean hasHarvested(BlockPos pos, UUID playerUUID) {
+        return hasHarvested(pos.asLong(), playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits());
+    }
+
+    public boolean hasHarvested(long packedPos, long msb, long lsb) {
+        Entry entry = currentEntry(packedPos);
+        return entry != null && entry.players.contains(msb, lsb);
+    }
+
+    public boolean hasAnyHarvest(BlockPos pos) {
+        Entry entry = currentEntry(pos.asLong());
+        return entry != null && !entry.players.isEmpty();
+    }
+
+    public void markHarvested(BlockPos pos, UUID playerUUID) {
+        markHarvested(pos.asLong(), playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits());
+    }
+
+    public void markHarvested(long packedPos, long msb, long lsb) {
+        long day = ResetClock.currentDay();
+        Entry entry = entries.get(packedPos);
+        if (entry == null) {
+            entry = new Entry(day);
+            entries.put(packedPos, entry);
+        } else if (entry.day != day) {
+            entry.day = day;
+            entry.players.clear();
+        }
+        if (entry.players.add(msb, lsb)) {
+            playerIndex().computeIfAbsent(new UUID(msb, lsb), key -> new LongOpenHashSet()).add(packedPos);
+            journal(HarvestJournal.HARVEST, packedPos, msb, lsb);
+            setDirty();
+        }
+    }
+
+    public boolean resetPlayer(BlockPos pos, UUID playerUUID) {
+        Entry entry = currentEntry(pos.asLong());
+        if (entry != null && entry.players.remove(playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits())) {
+            if (entry.players.isEmpty()) {
+                entries.remove(pos.asLong());
+            }
+            unindex(playerUUID, pos.asLong());
+            journal(HarvestJournal.RESET_PLAYER, pos.asLong(),
+                    playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits());
+            setDirty();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean resetBlock(BlockPos pos) {
+        long packedPos = pos.asLong();
+        Entry entry = entries.remove(packedPos);
+        if (entry != null) {
+            if (entry.day == ResetClock.currentDay()) {
+                entry.players.forEach((msb, lsb) -> unindex(new UUID(msb, lsb), packedPos));
+            }
+            journal(HarvestJournal.RESET_BLOCK, packedPos, 0, 0);
+            setDirty();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drops every harvest inside the box, loaded or not. Returns the packed positions that
+     * had entries so loaded blocks can have their visuals refreshed.
+     */
+    public LongList resetArea(BoundingBox box) {
+        LongList removed = new LongArrayList();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (long packedPos : entries.keySet()) {
+            if (box.isInside(pos.set(packedPos))) {
+                removed.add(packedPos);
+            }
+        }
+        for (int i = 0; i < removed.size(); i++) {
+            resetBlock(pos.set(removed.getLong(i)));
+        }
+        return removed;
+    }
+
+    /**
+     * Packed positions the player harvested in this dimension today, from the reverse index.
+     * Returns a copy so callers can reset the positions while iterating.
+     */
+    public long[] positionsHarvestedBy(UUID playerUUID) {
+        LongSet positions = playerIndex().get(playerUUID);
+        return positions == null ? new long[0] : positions.toLongArray();
+    }
+
+    private Map<UUID, LongSet> playerIndex() {
+        long day = ResetClock.currentDay();
+        if (indexDay != day) {
+            // New period: every indexed harvest is stale
+            positionsByPlayer.clear();
+            indexDay = day;
+        }
+        return positionsByPlayer;
+    }
+
+    private void unindex(UUID playerUUID, long packedPos) {
+        LongSet positions = playerIndex().get(playerUUID);
+        if (positions != null && positions.remove(packedPos) && positions.isEmpty()) {
+            positionsByPlayer.remove(playerUUID);
+        }
+    }
+
+    /**
+     * Drops every harvest in this dimension. Returns the packed positions that had
+     * entries so their block visuals can be refreshed.
+     */
+    public LongList resetAll() {
+        LongList harvested = new LongArrayList(entries.keySet());
+        if (!entries.isEmpty()) {
+            entries.clear();
+            positionsByPlayer.clear();
+            journal(HarvestJournal.RESET_ALL, 0, 0, 0);
+            setDirty();
+        }
+        return harvested;
+    }
+
+    /**
+     * Removes entries left over from previous days and returns their packed positions.
+     * Used at rollover to find the blocks still showing yesterday's harvested visual;
+     * the cost scales with yesterday's harvested blocks, not with every placed block.
+     */
+    public LongList pruneStale() {
+        LongList stale = new LongArrayList();
+        long day = ResetClock.currentDay();
+        ObjectIterator<Long2ObjectMap.Entry<Entry>> it = entries.long2ObjectEntrySet().iterator();
+        while (it.hasNext()) {
+            Long2ObjectMap.Entry<Entry> e = it.next();
+            if (e.getValue().day != day) {
+                stale.add(e.getLongKey());
+                it.remove();
+            }
+        }
+        if (!stale.isEmpty()) {
+            setDirty();
+        }
+        return stale;
+    }
+
+    public int activeBlockCount() {
+        long day = ResetClock.currentDay();
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.day == day && !entry.players.isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Players who harvested the given position today, as a read-only view.
+     */
+    public UuidSet.View harvesters(BlockPos pos) {
+        Entry entry = currentEntry(pos.asLong());
+        return entry == null ? UuidSet.View.EMPTY : entry.view;
+    }
+
+    private Entry currentEntry(long packedPos) {
+        Entry entry = entries.get(packedPos);
+        if (entry == null || entry.day != ResetClock.currentDay()) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Imports harvests from a block entity saved before the ledger existed.
+     * Only harvests from the current day are kept.
+     */
+    void importLegacy(BlockPos pos, long day, UuidSet players) {
+        if (day != ResetClock.currentDay() || players.isEmpty()) {
+            return;
+        }
+        long packedPos = pos.asLong();
+        players.forEach((msb, lsb) -> markHarvested(packedPos, msb, lsb));
+    }
+
+    private void journal(int type, long packedPos, long msb, long lsb) {
+        journalSeq++;
+        if (journal != null) {
+            journal.append(journalSeq, type, packedPos, ResetClock.currentDay(), msb, lsb);
+        }
+    }
+
+    long journalSeq() {
+        return journalSeq;
+    }
+
+    /**
+     * Re-applies a journal record written after the last snapshot. Runs before the journal
+     * is attached, so the replayed changes aren't journaled a second time.
+     */
+    void replay(long seq, int type, long packedPos, long day, long msb, long lsb) {
+        switch (type) {
+            case HarvestJournal.HARVEST -> {
+                // Harvests from an earlier period are already reset
+                if (day == ResetClock.currentDay()) {
+                    markHarvested(packedPos, msb, lsb);
+                }
+            }
+            case HarvestJournal.RESET_PLAYER -> resetPlayer(BlockPos.of(packedPos), new UUID(msb, lsb));
+            case HarvestJournal.RESET_BLOCK -> resetBlock(BlockPos.of(packedPos));
+            case HarvestJournal.RESET_ALL -> resetAll();
+            default -> SkysCobblemonUtils.LOGGER.warn("Skipping unknown harvest journal record type {}", type);
+        }
+        journalSeq = seq;
+    }
+
+    // NBT Serialization
+    // Version 1 stored Day as a long and Players as a list of int-array UUIDs.
+    // Version 2 stores Day as an int epoch day and Players as one long array of msb/lsb pairs.
+    private static final int FORMAT_VERSION = 2;
+
+    public static HarvestLedger load(CompoundTag tag, HolderLookup.Provider registries) {
+        HarvestLedger ledger = new HarvestLedger();
+        boolean compact = tag.getInt("Version") >= 2;
+        ledger.journalSeq = tag.getLong("JournalSeq");
+
+        ListTag entriesTag = tag.getList("Entries", Tag.TAG_COMPOUND);
+        for (int i = 0; i < entriesTag.size(); i++) {
+            CompoundTag entryTag = entriesTag.getCompound(i);
+            // Stale entries are kept so the next rollover can refresh their block visuals
+            Entry entry;
+            if (compact) {
+                entry = new Entry(entryTag.getInt("Day"));
+                long[] players = entryTag.getLongArray("Players");
+                for (int j = 0; j + 1 < players.length; j += 2) {
+                    entry.players.add(players[j], players[j + 1]);
+                }
+            } else {
+                entry = new Entry(entryTag.getLong("Day"));
+                ListTag playersTag = entryTag.getList("Players", Tag.TAG_INT_ARRAY);
+                for (Tag playerTag : playersTag) {
+                    UUID uuid = NbtUtils.loadUUID(playerTag);
+                    entry.players.add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+                }
+            }
+            if (!entry.players.isEmpty()) {
+                long packedPos = entryTag.getLong("Pos");
+                ledger.entries.put(packedPos, entry);
+                if (entry.day == ResetClock.currentDay()) {
+                    entry.players.forEach((msb, lsb) -> ledger.playerIndex()
+                            .computeIfAbsent(new UUID(msb, lsb), key -> new LongOpenHashSet()).add(packedPos));
+                }
+            }
+        }
+
+        if (!compact && !ledger.entries.isEmpty()) {
+            // Rewrite in the compact format on the next save
+            ledger.setDirty();
+        }
+        return ledger;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag entriesTag = new ListTag();
+
+        for (Long2ObjectMap.Entry<Entry> e : entries.long2ObjectEntrySet()) {
+            Entry entry = e.getValue();
+            if (entry.players.isEmpty()) {
+                continue;
+            }
+
+            CompoundTag entryTag = new CompoundTag();
+            entryTag.putLong("Pos", e.getLongKey());
+            entryTag.putInt("Day", (int) entry.day);
+            entryTag.putLongArray("Players", entry.players.toPairs());
+            entriesTag.add(entryTag);
+        }
+
+        tag.putInt("Version", FORMAT_VERSION);
+        tag.putLong("JournalSeq", journalSeq);
+        if (journal != null) {
+            journal.snapshotTaken(journalSeq);
+        }
+        tag.put("Entries", entriesTag);
+        return tag;
+    }
+
+    private static final class Entry {
+        private long day;
+        private final UuidSet players = new UuidSet();
+        private final UuidSet.View view = players.view();
+
+        private Entry(long day) {
+            this.day = day;
+        }
+    }
+}
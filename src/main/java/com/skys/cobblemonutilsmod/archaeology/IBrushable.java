@@ -1,7 +1,7 @@
 package com.skys.cobblemonutilsmod.archaeology;
 
+import com.skys.cobblemonutilsmod.feedback.FeedbackMessage;
 import net.minecraft.core.Direction;
-import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Player;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,10 +25,10 @@ public interface IBrushable {
      * Returns null if the player can brush (no message needed).
      *
      * @param player The player attempting to brush
-     * @return A Component message to display, or null if brushing is allowed
+     * @return A cached message to display, or null if brushing is allowed
      */
     @Nullable
-    Component brushableBlock$getUnavailableMessage(Player player);
+    FeedbackMessage brushableBlock$getUnavailableMessage(Player player);
 
     /**
      * Checks if the player has already harvested this block today.
@@ -0,0 +1,122 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.loot.LootParams;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates a loot table many times to measure its item distribution and cost, without
+ * anyone brushing a real block. Like a real brush, only the first non-empty stack of each
+ * roll counts.
+ * <p>
+ * Loot conditions may read the level and the player, so a run stays on the server thread
+ * and is advanced a slice at a time by {@link Run#step(long)} under a per-tick budget.
+ */
+public final class LootSimulator {
+    // Rolls between clock checks while stepping
+    private static final int ROLLS_PER_CLOCK_CHECK = 64;
+
+    private LootSimulator() {
+    }
+
+    /**
+     * Prepares a run with the same parameters a real brush uses: the origin, plus the
+     * player and their luck when there is one.
+     */
+    public static Run start(ServerLevel level, Vec3 origin, @Nullable ServerPlayer player, LootTable table,
+                            int rolls, long seedBase) {
+        // One params object and one consumer for the whole run; only the per-roll context is allocated
+        LootParams.Builder builder = new LootParams.Builder(level)
+                .withParameter(LootContextParams.ORIGIN, origin);
+        if (player != null) {
+            builder.withLuck(player.getLuck())
+                    .withParameter(LootContextParams.THIS_ENTITY, player);
+        }
+        return new Run(table, builder.create(LootContextParamSets.CHEST), rolls, seedBase);
+    }
+
+    public static final class Run {
+        private final LootTable table;
+        private final LootParams params;
+        private final int rolls;
+        private final long seedBase;
+        private final FirstItemCounter counter = new FirstItemCounter();
+        private int completed;
+        private long elapsedNanos;
+
+        private Run(LootTable table, LootParams params, int rolls, long seedBase) {
+            this.table = table;
+            this.params = params;
+            this.rolls = rolls;
+            this.seedBase = seedBase;
+        }
+
+        /**
+         * Rolls until the run is finished or budgetNanos has passed. Returns true when finished.
+         */
+        public boolean step(long budgetNanos) {
+            long start = System.nanoTime();
+            long now = start;
+            while (completed < rolls && now - start < budgetNanos) {
+                int end = Math.min(rolls, completed + ROLLS_PER_CLOCK_CHECK);
+                for (; completed < end; completed++) {
+                    counter.rollHadItem = false;
+                    table.getRandomItems(params, seedBase + completed, counter);
+                }
+                now = System.nanoTime();
+            }
+            elapsedNanos += now - start;
+            return completed >= rolls;
+        }
+
+        public Result result() {
+            return new Result(completed, completed - counter.rollsWithItem, elapsedNanos, counter.counts);
+        }
+    }
+
+    private static final class FirstItemCounter implements Consumer<ItemStack> {
+        private final Object2IntOpenHashMap<Item> counts = new Object2IntOpenHashMap<>();
+        private boolean rollHadItem;
+        private int rollsWithItem;
+
+        @Override
+        public void accept(ItemStack stack) {
+            if (rollHadItem || stack.isEmpty()) {
+                return;
+            }
+            rollHadItem = true;
+            rollsWithItem++;
+            counts.addTo(stack.getItem(), 1);
+        }
+    }
+
+    public record Result(int rolls, int emptyRolls, long elapsedNanos, Object2IntMap<Item> counts) {
+        public double nanosPerRoll() {
+            return rolls == 0 ? 0 : (double) elapsedNanos / rolls;
+        }
+
+        public double rollsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rolls * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public List<Object2IntMap.Entry<Item>> sortedCounts() {
+            List<Object2IntMap.Entry<Item>> sorted = new ArrayList<>(counts.object2IntEntrySet());
+            sorted.sort(Comparator.comparingInt(Object2IntMap.Entry<Item>::getIntValue).reversed());
+            return sorted;
+        }
+    }
+}
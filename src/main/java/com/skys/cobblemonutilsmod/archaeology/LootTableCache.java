@@ -0,0 +1,38 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.ReloadableServerRegistries;
+import net.minecraft.world.level.storage.loot.LootTable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches resolved loot tables until the next datapack reload. A reload swaps the server's
+ * reloadable registries holder, so comparing holder identity is enough to invalidate.
+ * Server thread only.
+ */
+public final class LootTableCache {
+    private static final Map<ResourceKey<LootTable>, LootTable> cache = new HashMap<>();
+    @Nullable
+    private static ReloadableServerRegistries.Holder cachedHolder;
+
+    private LootTableCache() {
+    }
+
+    public static LootTable get(MinecraftServer server, ResourceKey<LootTable> key) {
+        ReloadableServerRegistries.Holder holder = server.reloadableRegistries();
+        if (holder != cachedHolder) {
+            cache.clear();
+            cachedHolder = holder;
+        }
+        return cache.computeIfAbsent(key, holder::getLootTable);
+    }
+
+    public static void clear() {
+        cache.clear();
+        cachedHolder = null;
+    }
+}
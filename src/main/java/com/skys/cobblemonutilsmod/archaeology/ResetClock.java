@@ -0,0 +1,127 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import com.skys.cobblemonutilsmod.Config;
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Single source of truth for the daily reset period. The current period (epoch day in the
+ * configured zone) and the next reset instant are kept as longs and refreshed once per
+ * server tick, so brush hot paths compare longs instead of doing timezone arithmetic.
+ * <p>
+ * The config reload can run on the config watcher thread, so the clock, zone and derived
+ * period are published together as one immutable snapshot; writers are serialized.
+ */
+public final class ResetClock {
+    private static volatile Period period = Period.compute(Clock.systemUTC(), ZoneId.systemDefault());
+
+    // Countdown text for the last second it was requested
+    private static volatile Countdown cachedCountdown = new Countdown(-1, "");
+
+    private record Period(Clock clock, ZoneId zone, long day, long nextResetMillis) {
+        static Period compute(Clock clock, ZoneId zone) {
+            LocalDate today = LocalDate.ofInstant(clock.instant(), zone);
+            return new Period(clock, zone, today.toEpochDay(), today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
+
+    private record Countdown(long seconds, String text) {
+    }
+
+    private ResetClock() {
+    }
+
+    /**
+     * Called once per server tick. Returns true when a new reset period started.
+     */
+    public static boolean tick() {
+        Period current = period;
+        if (current.clock().millis() < current.nextResetMillis()) {
+            return false;
+        }
+        return publish(null, null).day() != current.day();
+    }
+
+    /**
+     * Recomputes the period, replacing the clock and/or zone when given.
+     */
+    private static synchronized Period publish(@Nullable Clock newClock, @Nullable ZoneId newZone) {
+        Period current = period;
+        Period next = Period.compute(newClock != null ? newClock : current.clock(), newZone != null ? newZone : current.zone());
+        period = next;
+        return next;
+    }
+
+    /**
+     * Re-reads the reset timezone from the config. An empty value keeps the host default.
+     */
+    public static void reloadZone() {
+        String configured = Config.RESET_TIMEZONE.get();
+        ZoneId newZone = ZoneId.systemDefault();
+        if (!configured.isBlank()) {
+            try {
+                newZone = ZoneId.of(configured);
+            } catch (DateTimeException e) {
+                SkysCobblemonUtils.LOGGER.warn("Invalid reset timezone '{}', using {}", configured, newZone);
+            }
+        }
+        publish(null, newZone);
+    }
+
+    /**
+     * Replaces the time source. Intended for tests and benchmarks.
+     */
+    public static void useClock(Clock newClock) {
+        publish(newClock, null);
+    }
+
+    public static long currentDay() {
+        return period.day();
+    }
+
+    public static long nextResetMillis() {
+        return period.nextResetMillis();
+    }
+
+    public static long secondsUntilReset() {
+        Period current = period;
+        return Math.max(0, (current.nextResetMillis() - current.clock().millis()) / 1000);
+    }
+
+    public static ZoneId zone() {
+        return period.zone();
+    }
+
+    /**
+     * Time until the next reset as HH:MM:SS, rebuilt at most once per second.
+     */
+    public static String countdown() {
+        long seconds = secondsUntilReset();
+        Countdown cached = cachedCountdown;
+        if (cached.seconds() != seconds) {
+            cached = new Countdown(seconds, formatCountdown(seconds));
+            cachedCountdown = cached;
+        }
+        return cached.text();
+    }
+
+    public static String formatCountdown(long totalSeconds) {
+        long hours = totalSeconds / 3600;
+        int minutes = (int) (totalSeconds / 60 % 60);
+        int seconds = (int) (totalSeconds % 60);
+
+        StringBuilder sb = new StringBuilder(8);
+        if (hours < 10) sb.append('0');
+        sb.append(hours).append(':');
+        if (minutes < 10) sb.append('0');
+        sb.append(minutes).append(':');
+        if (seconds < 10) sb.append('0');
+        sb.append(seconds);
+        return sb.toString();
+    }
+}
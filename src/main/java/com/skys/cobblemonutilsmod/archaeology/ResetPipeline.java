@@ -0,0 +1,163 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import com.skys.cobblemonutilsmod.Config;
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.metrics.ModMetrics;
+import com.skys.cobblemonutilsmod.metrics.ResetDrainEvent;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Refreshes the visuals of reset blocks a few at a time instead of all in one tick.
+ * Queued positions are sorted by chunk and drained under a per-tick nanosecond budget.
+ * <p>
+ * Harvest data is already reset in the HarvestLedger before positions are queued, so
+ * hasLootAvailable stays correct for blocks the pipeline hasn't reached yet - only the
+ * dusted visual, block update and particles are deferred.
+ */
+public class ResetPipeline {
+    private static final int CLOCK_CHECK_INTERVAL = 8;
+
+    private static final Deque<Batch> batches = new ArrayDeque<>();
+    private static int pendingBlocks = 0;
+    private static int processedBlocks = 0;
+    private static int totalQueued = 0;
+    private static int drainTicks = 0;
+
+    public static void enqueue(ServerLevel level, LongList positions, boolean showParticles) {
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        long[] sorted = sortByChunk(positions);
+        batches.addLast(new Batch(level, sorted, showParticles));
+        pendingBlocks += sorted.length;
+        totalQueued += sorted.length;
+    }
+
+    /**
+     * Copies the positions sorted by chunk, then by position, so a batch visits each chunk once.
+     */
+    static long[] sortByChunk(LongList positions) {
+        long[] sorted = positions.toLongArray();
+        LongArrays.quickSort(sorted, (a, b) -> {
+            int byChunk = Long.compare(chunkKey(a), chunkKey(b));
+            return byChunk != 0 ? byChunk : Long.compare(a, b);
+        });
+        return sorted;
+    }
+
+    private static long chunkKey(long packedPos) {
+        return ChunkPos.asLong(BlockPos.getX(packedPos) >> 4, BlockPos.getZ(packedPos) >> 4);
+    }
+
+    /**
+     * Processes queued blocks until the configured tick budget is used up.
+     */
+    public static void drain() {
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        ResetDrainEvent event = new ResetDrainEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long budget = Config.RESET_TICK_BUDGET_NANOS.get();
+        long deadline = start + budget;
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int sinceClockCheck = 0;
+        int refreshed = 0;
+        drainTicks++;
+
+        while (!batches.isEmpty()) {
+            Batch batch = batches.peekFirst();
+            if (batch.cursor >= batch.positions.length) {
+                batches.pollFirst();
+                continue;
+            }
+
+            pos.set(batch.positions[batch.cursor++]);
+            pendingBlocks--;
+            processedBlocks++;
+            refreshed++;
+            refreshBlock(batch.level, pos, batch.showParticles);
+
+            if (++sinceClockCheck >= CLOCK_CHECK_INTERVAL) {
+                sinceClockCheck = 0;
+                if (System.nanoTime() >= deadline) {
+                    recordTick(event, start, refreshed, budget);
+                    return;
+                }
+            }
+        }
+
+        recordTick(event, start, refreshed, budget);
+
+        SkysCobblemonUtils.LOGGER.info("Reset pipeline refreshed {} daily brushable blocks over {} ticks",
+                processedBlocks, drainTicks);
+        processedBlocks = 0;
+        totalQueued = 0;
+        drainTicks = 0;
+    }
+
+    private static void recordTick(ResetDrainEvent event, long start, int refreshed, long budget) {
+        ModMetrics.RESET_PIPELINE_TICK.recordSince(start);
+        ModMetrics.RESET_BLOCKS_REFRESHED.add(refreshed);
+        if (event.shouldCommit()) {
+            event.blocksRefreshed = refreshed;
+            event.blocksRemaining = pendingBlocks;
+            event.budgetNanos = budget;
+            event.commit();
+        }
+    }
+
+    private static void refreshBlock(ServerLevel level, BlockPos pos, boolean showParticles) {
+        // Unloaded blocks aren't indexed; their visual catches up in onLoad when the chunk is next loaded
+        DailyBrushableBlockEntity brushable = DailyResetManager.getTrackedBlocks().get(level.dimension(), pos.asLong());
+        if (brushable != null && !brushable.isRemoved()) {
+            brushable.resetForNewDay();
+            if (showParticles) {
+                DailyResetManager.spawnResetParticles(level, pos);
+            }
+        }
+    }
+
+    public static void clear() {
+        batches.clear();
+        pendingBlocks = 0;
+        processedBlocks = 0;
+        totalQueued = 0;
+        drainTicks = 0;
+    }
+
+    public static boolean isRunning() {
+        return pendingBlocks > 0;
+    }
+
+    public static int getProcessedCount() {
+        return processedBlocks;
+    }
+
+    public static int getTotalQueued() {
+        return totalQueued;
+    }
+
+    private static final class Batch {
+        private final ServerLevel level;
+        private final long[] positions;
+        private final boolean showParticles;
+        private int cursor;
+
+        private Batch(ServerLevel level, long[] positions, boolean showParticles) {
+            this.level = level;
+            this.positions = positions;
+            this.showParticles = showParticles;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.skys.cobblemonutilsmod.archaeology;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open-addressing set of UUIDs stored as two parallel long[] lanes (most and least
+ * significant bits). Avoids the HashMap node, UUID object and boxing overhead of a
+ * HashSet&lt;UUID&gt;, and lookups by raw bits don't allocate.
+ * <p>
+ * A slot holding 0/0 is empty, so the nil UUID is tracked with a separate flag.
+ * Not thread-safe; only touched from the server thread.
+ */
+public final class UuidSet {
+    private static final int MIN_CAPACITY = 4;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private int mask;
+    private int size;
+    private int maxFill;
+    private boolean containsNil;
+
+    public UuidSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidSet(int expected) {
+        allocate(HashCommon.arraySize(Math.max(expected, MIN_CAPACITY), LOAD_FACTOR));
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        mask = capacity - 1;
+        maxFill = HashCommon.maxFill(capacity, LOAD_FACTOR);
+    }
+
+    private static int hash(long msb, long lsb) {
+        return (int) HashCommon.mix(msb ^ Long.rotateLeft(lsb, 32));
+    }
+
+    public boolean contains(UUID uuid) {
+        return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean contains(long msb, long lsb) {
+        if ((msb | lsb) == 0) {
+            return containsNil;
+        }
+        int pos = hash(msb, lsb) & mask;
+        while ((msbs[pos] | lsbs[pos]) != 0) {
+            if (msbs[pos] == msb && lsbs[pos] == lsb) {
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean add(UUID uuid) {
+        return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean add(long msb, long lsb) {
+        if ((msb | lsb) == 0) {
+            if (containsNil) {
+                return false;
+            }
+            containsNil = true;
+            size++;
+            return true;
+        }
+        int pos = hash(msb, lsb) & mask;
+        while ((msbs[pos] | lsbs[pos]) != 0) {
+            if (msbs[pos] == msb && lsbs[pos] == lsb) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        msbs[pos] = msb;
+        lsbs[pos] = lsb;
+        if (++size >= maxFill) {
+            rehash(msbs.length * 2);
+        }
+        return true;
+    }
+
+    public boolean remove(UUID uuid) {
+        return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public boolean remove(long msb, long lsb) {
+        if ((msb | lsb) == 0) {
+            if (!containsNil) {
+                return false;
+            }
+            containsNil = false;
+            size--;
+            return true;
+        }
+        int pos = hash(msb, lsb) & mask;
+        while ((msbs[pos] | lsbs[pos]) != 0) {
+            if (msbs[pos] == msb && lsbs[pos] == lsb) {
+                size--;
+                shiftKeys(pos);
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the probe chain into the freed slot
+     * so lookups never need tombstones.
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((msbs[pos] | lsbs[pos]) == 0) {
+                    msbs[last] = 0;
+                    lsbs[last] = 0;
+                    return;
+                }
+                int slot = hash(msbs[pos], lsbs[pos]) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            msbs[last] = msbs[pos];
+            lsbs[last] = lsbs[pos];
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        allocate(capacity);
+        for (int i = 0; i < oldMsbs.length; i++) {
+            long msb = oldMsbs[i];
+            long lsb = oldLsbs[i];
+            if ((msb | lsb) != 0) {
+                int pos = hash(msb, lsb) & mask;
+                while ((msbs[pos] | lsbs[pos]) != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                msbs[pos] = msb;
+                lsbs[pos] = lsb;
+            }
+        }
+    }
+
+    public void clear() {
+        if (size == 0) return;
+        if (msbs.length > MIN_CAPACITY * 4) {
+            // Drop large tables instead of keeping yesterday's capacity around
+            allocate(HashCommon.arraySize(MIN_CAPACITY, LOAD_FACTOR));
+        } else {
+            Arrays.fill(msbs, 0);
+            Arrays.fill(lsbs, 0);
+        }
+        size = 0;
+        containsNil = false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(UuidConsumer consumer) {
+        if (containsNil) {
+            consumer.accept(0, 0);
+        }
+        for (int i = 0; i < msbs.length; i++) {
+            if ((msbs[i] | lsbs[i]) != 0) {
+                consumer.accept(msbs[i], lsbs[i]);
+            }
+        }
+    }
+
+    /**
+     * Copies the set into a flat array of msb/lsb pairs, the layout used for NBT.
+     */
+    public long[] toPairs() {
+        long[] pairs = new long[size * 2];
+        int cursor = 0;
+        if (containsNil) {
+            cursor += 2; // Already 0/0
+        }
+        for (int i = 0; i < msbs.length; i++) {
+            if ((msbs[i] | lsbs[i]) != 0) {
+                pairs[cursor++] = msbs[i];
+                pairs[cursor++] = lsbs[i];
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Read-only view backed by this set. Callers that only need to inspect the set
+     * should use this instead of copying it.
+     */
+    public View view() {
+        return new View(this);
+    }
+
+    @FunctionalInterface
+    public interface UuidConsumer {
+        void accept(long msb, long lsb);
+    }
+
+    public static final class View {
+        public static final View EMPTY = new View(new UuidSet());
+
+        private final UuidSet set;
+
+        private View(UuidSet set) {
+            this.set = set;
+        }
+
+        public boolean contains(UUID uuid) {
+            return set.contains(uuid);
+        }
+
+        public boolean contains(long msb, long lsb) {
+            return set.contains(msb, lsb);
+        }
+
+        public int size() {
+            return set.size();
+        }
+
+        public boolean isEmpty() {
+            return set.isEmpty();
+        }
+
+        public void forEach(UuidConsumer consumer) {
+            set.forEach(consumer);
+        }
+    }
+}
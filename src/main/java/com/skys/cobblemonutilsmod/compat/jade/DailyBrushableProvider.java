@@ -0,0 +1,54 @@
+package com.skys.cobblemonutilsmod.compat.jade;
+
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.archaeology.ClientHarvestCache;
+import com.skys.cobblemonutilsmod.archaeology.DailyBrushableBlockEntity;
+import com.skys.cobblemonutilsmod.archaeology.ResetClock;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import snownee.jade.api.BlockAccessor;
+import snownee.jade.api.IBlockComponentProvider;
+import snownee.jade.api.IServerDataProvider;
+import snownee.jade.api.ITooltip;
+import snownee.jade.api.config.IPluginConfig;
+
+/**
+ * Shows harvest status and the reset countdown for daily brushable blocks.
+ * The server only sends the next reset instant; the countdown is computed on the client.
+ */
+public enum DailyBrushableProvider implements IBlockComponentProvider, IServerDataProvider<BlockAccessor> {
+    INSTANCE;
+
+    private static final ResourceLocation UID = ResourceLocation.fromNamespaceAndPath(SkysCobblemonUtils.MOD_ID, "daily_brushable");
+
+    @Override
+    public void appendServerData(CompoundTag data, BlockAccessor accessor) {
+        if (accessor.getBlockEntity() instanceof DailyBrushableBlockEntity brushable) {
+            brushable.writeDisplayData(data);
+        }
+    }
+
+    @Override
+    public void appendTooltip(ITooltip tooltip, BlockAccessor accessor, IPluginConfig config) {
+        CompoundTag data = accessor.getServerData();
+        if (!data.contains("NextReset")) {
+            return;
+        }
+
+        if (ClientHarvestCache.isHarvested(accessor.getPosition())) {
+            tooltip.add(Component.literal("Already harvested today").withStyle(style -> style.withColor(0xFF5555)));
+        } else {
+            tooltip.add(Component.literal("Ready to brush").withStyle(style -> style.withColor(0x55FF55)));
+        }
+
+        long secondsUntilReset = Math.max(0, (data.getLong("NextReset") - System.currentTimeMillis()) / 1000);
+        tooltip.add(Component.literal("Resets in: " + ResetClock.formatCountdown(secondsUntilReset)));
+        tooltip.add(Component.literal("Players harvested today: " + data.getInt("PlayersBrushedToday")));
+    }
+
+    @Override
+    public ResourceLocation getUid() {
+        return UID;
+    }
+}
@@ -0,0 +1,25 @@
+package com.skys.cobblemonutilsmod.compat.jade;
+
+import com.skys.cobblemonutilsmod.archaeology.DailyBrushableBlock;
+import com.skys.cobblemonutilsmod.archaeology.DailyBrushableBlockEntity;
+import snownee.jade.api.IWailaClientRegistration;
+import snownee.jade.api.IWailaCommonRegistration;
+import snownee.jade.api.IWailaPlugin;
+import snownee.jade.api.WailaPlugin;
+
+/**
+ * Jade integration, discovered by Jade through the annotation. Never loaded without Jade installed.
+ */
+@WailaPlugin
+public class JadePlugin implements IWailaPlugin {
+
+    @Override
+    public void register(IWailaCommonRegistration registration) {
+        registration.registerBlockDataProvider(DailyBrushableProvider.INSTANCE, DailyBrushableBlockEntity.class);
+    }
+
+    @Override
+    public void registerClient(IWailaClientRegistration registration) {
+        registration.registerBlockComponent(DailyBrushableProvider.INSTANCE, DailyBrushableBlock.class);
+    }
+}
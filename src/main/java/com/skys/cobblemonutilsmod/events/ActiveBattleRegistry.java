@@ -0,0 +1,146 @@
+package com.skys.cobblemonutilsmod.events;
+
+import com.cobblemon.mod.common.battles.BattleRegistry;
+import com.cobblemon.mod.common.battles.pokemon.PokemonBattle;
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Battles with at least one player, keyed by Cobblemon battle id, plus a reverse index from
+ * player to battle for the hot-path "is this player in battle" checks.
+ * <p>
+ * Battles are registered once they have actually started, and removed on victory/flee
+ * (forfeits end in a victory), player death and logout. Battles Cobblemon stops without an
+ * event are caught by {@link #isInLiveBattle} where it matters and by a periodic pass, so
+ * the registry never holds more than the online players' battles.
+ */
+public final class ActiveBattleRegistry {
+    private static final int RECONCILE_INTERVAL_TICKS = 200;
+
+    // Battle id to its players' UUIDs, and each player's UUID to their battle id
+    private static final Map<UUID, UUID[]> battles = new ConcurrentHashMap<>();
+    private static final Map<UUID, UUID> battleByPlayer = new ConcurrentHashMap<>();
+    private static int ticksSinceReconcile = 0;
+
+    private ActiveBattleRegistry() {
+    }
+
+    public static void register(UUID battleId, List<ServerPlayer> players) {
+        if (players.isEmpty()) {
+            return;
+        }
+        UUID[] uuids = new UUID[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            uuids[i] = players.get(i).getUUID();
+        }
+        battles.put(battleId, uuids);
+        for (UUID uuid : uuids) {
+            // A player is only ever in one battle; a stale mapping is simply replaced
+            battleByPlayer.put(uuid, battleId);
+        }
+    }
+
+    /**
+     * Removes the battle and releases its players. Returns false if it wasn't registered.
+     */
+    public static boolean end(UUID battleId) {
+        UUID[] players = battles.remove(battleId);
+        if (players == null) {
+            return false;
+        }
+        for (UUID uuid : players) {
+            battleByPlayer.remove(uuid, battleId);
+        }
+        return true;
+    }
+
+    /**
+     * Releases a single player, e.g. on death or logout. The battle itself stays until it ends.
+     */
+    public static boolean removePlayer(UUID playerUUID) {
+        return battleByPlayer.remove(playerUUID) != null;
+    }
+
+    public static boolean isInBattle(UUID playerUUID) {
+        return battleByPlayer.containsKey(playerUUID);
+    }
+
+    /**
+     * Like isInBattle, but also confirms the battle with Cobblemon's BattleRegistry, ending it
+     * here right away if Cobblemon has already stopped it. For checks where acting on a
+     * battle that just ended matters more than speed, such as captures.
+     */
+    public static boolean isInLiveBattle(UUID playerUUID) {
+        UUID battleId = battleByPlayer.get(playerUUID);
+        if (battleId == null) {
+            return false;
+        }
+        PokemonBattle battle = BattleRegistry.INSTANCE.getBattle(battleId);
+        if (battle == null || battle.getEnded()) {
+            end(battleId);
+            return false;
+        }
+        return true;
+    }
+
+    public static boolean isEmpty() {
+        return battleByPlayer.isEmpty();
+    }
+
+    /**
+     * Live view of the players currently protected by a battle.
+     */
+    public static Set<UUID> playersInBattle() {
+        return battleByPlayer.keySet();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (removePlayer(event.getEntity().getUUID())) {
+            SkysCobblemonUtils.LOGGER.debug("Player {} logged out - removed from battle protection",
+                    event.getEntity().getName().getString());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (battles.isEmpty() || ++ticksSinceReconcile < RECONCILE_INTERVAL_TICKS) {
+            return;
+        }
+        ticksSinceReconcile = 0;
+        reconcile();
+    }
+
+    /**
+     * Drops battles that Cobblemon has ended or forgotten without firing an event we listen to.
+     */
+    private static void reconcile() {
+        int removed = 0;
+        for (UUID battleId : battles.keySet()) {
+            PokemonBattle battle = BattleRegistry.INSTANCE.getBattle(battleId);
+            if ((battle == null || battle.getEnded()) && end(battleId)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            SkysCobblemonUtils.LOGGER.debug("Removed {} battles that ended without a victory or flee event", removed);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        battles.clear();
+        battleByPlayer.clear();
+        ticksSinceReconcile = 0;
+    }
+}
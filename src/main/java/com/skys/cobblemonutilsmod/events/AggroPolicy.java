@@ -0,0 +1,144 @@
+package com.skys.cobblemonutilsmod.events;
+
+import com.skys.cobblemonutilsmod.Config;
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Battle aggro rules, compiled from the config and the battle_aggro_exempt entity type tag
+ * into lookup tables so the per-retarget checks don't touch either.
+ * <p>
+ * Exemptions become a boolean per entity type registry id and are rebuilt whenever tags
+ * (re)load; sweep parameters become one record per dimension, rebuilt on config (re)load.
+ * <p>
+ * Unlike the old instanceof checks, the tag matches exact entity types, so modded mobs that
+ * merely extend WitherBoss, EnderDragon or Warden are only exempt if the tag lists them.
+ */
+public final class AggroPolicy {
+    public static final TagKey<EntityType<?>> BATTLE_AGGRO_EXEMPT = TagKey.create(Registries.ENTITY_TYPE,
+            ResourceLocation.fromNamespaceAndPath(SkysCobblemonUtils.MOD_ID, "battle_aggro_exempt"));
+
+    private static volatile boolean[] exemptTypes = new boolean[0];
+    private static volatile LevelParams defaults = new LevelParams(16.0D, 100);
+    private static volatile Map<ResourceKey<Level>, LevelParams> overrides = Map.of();
+    // Greatest common divisor of every sweep interval: no level is due on any other tick
+    private static volatile int sweepGranularity = 100;
+
+    /**
+     * Sweep parameters for one dimension.
+     */
+    public record LevelParams(double sweepRadius, int sweepIntervalTicks) {
+    }
+
+    private AggroPolicy() {
+    }
+
+    /**
+     * True if the entity keeps its targets even against players in battle.
+     */
+    public static boolean isExempt(Entity entity) {
+        boolean[] exempt = exemptTypes;
+        int id = BuiltInRegistries.ENTITY_TYPE.getId(entity.getType());
+        return id >= 0 && id < exempt.length && exempt[id];
+    }
+
+    public static LevelParams forLevel(Level level) {
+        return overrides.getOrDefault(level.dimension(), defaults);
+    }
+
+    public static int sweepGranularity() {
+        return sweepGranularity;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            compileExemptions();
+        }
+    }
+
+    private static void compileExemptions() {
+        boolean[] exempt = new boolean[BuiltInRegistries.ENTITY_TYPE.size()];
+        int count = 0;
+        for (Holder<EntityType<?>> holder : BuiltInRegistries.ENTITY_TYPE.getTagOrEmpty(BATTLE_AGGRO_EXEMPT)) {
+            int id = BuiltInRegistries.ENTITY_TYPE.getId(holder.value());
+            if (id >= 0 && id < exempt.length && !exempt[id]) {
+                exempt[id] = true;
+                count++;
+            }
+        }
+        exemptTypes = exempt;
+        SkysCobblemonUtils.LOGGER.debug("Compiled battle aggro exemptions: {} entity types", count);
+    }
+
+    /**
+     * Rebuilds the per-dimension sweep parameters from the config.
+     */
+    public static void compileLevelParams() {
+        LevelParams base = new LevelParams(Config.AGGRO_SWEEP_RADIUS.get(), Config.AGGRO_SWEEP_INTERVAL_TICKS.get());
+        Map<ResourceKey<Level>, LevelParams> compiled = new HashMap<>();
+        int granularity = base.sweepIntervalTicks();
+        for (String entry : Config.AGGRO_DIMENSION_OVERRIDES.get()) {
+            Map.Entry<ResourceKey<Level>, LevelParams> override = parseOverride(entry);
+            if (override == null) {
+                SkysCobblemonUtils.LOGGER.warn("Ignoring invalid battle aggro dimension override '{}'", entry);
+                continue;
+            }
+            compiled.put(override.getKey(), override.getValue());
+            granularity = gcd(granularity, override.getValue().sweepIntervalTicks());
+        }
+
+        defaults = base;
+        overrides = Map.copyOf(compiled);
+        sweepGranularity = granularity;
+    }
+
+    /**
+     * Parses "dimension,sweepRadius,sweepIntervalTicks", returning null if malformed.
+     */
+    @Nullable
+    public static Map.Entry<ResourceKey<Level>, LevelParams> parseOverride(String entry) {
+        String[] parts = entry.split(",");
+        if (parts.length != 3) {
+            return null;
+        }
+        ResourceLocation dimension = ResourceLocation.tryParse(parts[0].trim());
+        if (dimension == null) {
+            return null;
+        }
+        try {
+            double radius = Double.parseDouble(parts[1].trim());
+            int interval = Integer.parseInt(parts[2].trim());
+            if (radius < Config.MIN_AGGRO_SWEEP_RADIUS || radius > Config.MAX_AGGRO_SWEEP_RADIUS
+                    || interval < Config.MIN_AGGRO_SWEEP_INTERVAL_TICKS || interval > Config.MAX_AGGRO_SWEEP_INTERVAL_TICKS) {
+                return null;
+            }
+            return Map.entry(ResourceKey.create(Registries.DIMENSION, dimension), new LevelParams(radius, interval));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
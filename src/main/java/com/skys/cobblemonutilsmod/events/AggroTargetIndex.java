@@ -0,0 +1,114 @@
+package com.skys.cobblemonutilsmod.events;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.entity.living.LivingChangeTargetEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Reverse index from a targeted player, by UUID, to the entity ids of the mobs targeting them.
+ * <p>
+ * Fed by LivingChangeTargetEvent for goal-AI mobs and by BrainMixin for ATTACK_TARGET
+ * memories, so entering battle only has to visit the mobs actually after that player.
+ * Entries can go stale (e.g. a mob forgets its target without an event), so callers
+ * re-check each mob's real target. A mob's entry is dropped when it leaves its level, and
+ * a player's when their entity leaves its level, which covers logout, death/respawn and
+ * changing dimension. Server thread only.
+ */
+public final class AggroTargetIndex {
+    private static final int[] NONE = new int[0];
+
+    private static final Object2ObjectOpenHashMap<UUID, IntOpenHashSet> mobsByPlayer = new Object2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<UUID> playerByMob = new Int2ObjectOpenHashMap<>();
+
+    private AggroTargetIndex() {
+    }
+
+    /**
+     * Records that the mob now targets the entity; anything but a player just untracks the mob.
+     */
+    public static void track(LivingEntity mob, @Nullable Entity target) {
+        if (mob.level().isClientSide()) {
+            return;
+        }
+        if (!(target instanceof Player player)) {
+            untrack(mob.getId());
+            return;
+        }
+
+        UUID previous = playerByMob.put(mob.getId(), player.getUUID());
+        if (player.getUUID().equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            removeFromPlayer(previous, mob.getId());
+        }
+        mobsByPlayer.computeIfAbsent(player.getUUID(), uuid -> new IntOpenHashSet()).add(mob.getId());
+    }
+
+    public static void untrack(int mobId) {
+        UUID player = playerByMob.remove(mobId);
+        if (player != null) {
+            removeFromPlayer(player, mobId);
+        }
+    }
+
+    /**
+     * Removes and returns the ids of every mob last seen targeting the player.
+     */
+    public static int[] drainTargeting(Player player) {
+        IntOpenHashSet mobs = mobsByPlayer.remove(player.getUUID());
+        if (mobs == null) {
+            return NONE;
+        }
+        int[] ids = mobs.toIntArray();
+        for (int id : ids) {
+            playerByMob.remove(id);
+        }
+        return ids;
+    }
+
+    private static void removeFromPlayer(UUID player, int mobId) {
+        IntOpenHashSet mobs = mobsByPlayer.get(player);
+        if (mobs != null && mobs.remove(mobId) && mobs.isEmpty()) {
+            mobsByPlayer.remove(player);
+        }
+    }
+
+    /**
+     * Lowest priority and not receiving cancelled events, so only retargets that actually happen are indexed.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onTargetChange(LivingChangeTargetEvent event) {
+        track(event.getEntity(), event.getNewAboutToBeSetTarget());
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            return;
+        }
+        if (event.getEntity() instanceof Player player) {
+            // Mobs after the old entity can't reach the player in their new level or life
+            drainTargeting(player);
+        } else {
+            untrack(event.getEntity().getId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        mobsByPlayer.clear();
+        playerByMob.clear();
+    }
+}
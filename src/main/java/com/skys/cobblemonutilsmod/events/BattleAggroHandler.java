@@ -5,136 +5,190 @@ import com.cobblemon.mod.common.api.events.CobblemonEvents;
 import com.cobblemon.mod.common.api.events.battles.BattleStartedEvent;
 import com.cobblemon.mod.common.battles.actor.PlayerBattleActor;
 import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.metrics.AggroSweepEvent;
+import com.skys.cobblemonutilsmod.metrics.ModMetrics;
 import kotlin.Unit;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.ai.goal.target.TargetGoal;
-import net.minecraft.world.entity.boss.wither.WitherBoss;
-import net.minecraft.world.entity.boss.enderdragon.EnderDragon;
-import net.minecraft.world.entity.monster.warden.Warden;
-import net.minecraft.world.entity.monster.piglin.Piglin;
-import net.minecraft.world.entity.monster.piglin.PiglinBrute;
 import net.minecraft.world.entity.monster.piglin.AbstractPiglin;
 import net.minecraft.world.entity.NeutralMob;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.entity.living.LivingChangeTargetEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Handles preventing mob aggro on players while they're in Pokemon battles.
  * Players will lose aggro when entering battle and cannot gain new aggro while in battle.
- * Boss monsters (Wither, Ender Dragon, Warden) are exempt from this protection.
+ * Mobs in the battle_aggro_exempt entity type tag (by default Wither, Ender Dragon, Warden)
+ * are exempt from this protection; see AggroPolicy.
  */
 public class BattleAggroHandler {
-    private static final Set<UUID> playersInBattle = new HashSet<>();
+    // Brain targets are vetoed by BrainMixin; the sweep only reconciles anything that slipped through
+    private long sweepTick = 0;
 
     public BattleAggroHandler() {
         // Register Cobblemon battle events
-        CobblemonEvents.BATTLE_STARTED_PRE.subscribe(Priority.NORMAL, this::onBattleStart);
+        // POST, so battles cancelled during PRE never get registered
+        CobblemonEvents.BATTLE_STARTED_POST.subscribe(Priority.NORMAL, this::onBattleStart);
         CobblemonEvents.BATTLE_FLED.subscribe(Priority.NORMAL, this::onBattleEnd);
         CobblemonEvents.BATTLE_VICTORY.subscribe(Priority.NORMAL, this::onBattleEnd);
     }
 
     /**
-     * Called when a battle starts. Adds players to the tracking set and clears their aggro.
+     * Called when a battle starts. Registers the battle's players and clears their aggro.
      */
     private Unit onBattleStart(BattleStartedEvent event) {
+        List<ServerPlayer> players = new ArrayList<>();
         event.getBattle().getActors().forEach(actor -> {
             if (actor instanceof PlayerBattleActor playerActor) {
                 ServerPlayer player = playerActor.getEntity();
                 if (player != null) {
-                    playersInBattle.add(player.getUUID());
-                    clearPlayerAggro(player);
-                    SkysCobblemonUtils.LOGGER.debug("Player {} entered battle, clearing aggro", player.getName().getString());
+                    players.add(player);
                 }
             }
         });
+
+        ActiveBattleRegistry.register(event.getBattle().getBattleId(), players);
+        for (ServerPlayer player : players) {
+            clearPlayerAggro(player);
+            SkysCobblemonUtils.LOGGER.debug("Player {} entered battle, clearing aggro", player.getName().getString());
+        }
         return Unit.INSTANCE;
     }
 
     /**
-     * Called when a battle ends. Removes players from the tracking set.
+     * Called when a battle ends. Releases the battle's players.
+     * Forfeits end in a victory; battles Cobblemon stops without an event are caught by
+     * ActiveBattleRegistry.
      */
     private Unit onBattleEnd(Object event) {
-        // Extract players from battle end event
+        // Extract the battle from the end event
         if (event instanceof com.cobblemon.mod.common.api.events.battles.BattleFledEvent fledEvent) {
-            fledEvent.getBattle().getActors().forEach(actor -> {
-                if (actor instanceof PlayerBattleActor playerActor) {
-                    ServerPlayer player = playerActor.getEntity();
-                    if (player != null) {
-                        playersInBattle.remove(player.getUUID());
-                        SkysCobblemonUtils.LOGGER.debug("Player {} fled from battle", player.getName().getString());
-                    }
-                }
-            });
+            if (ActiveBattleRegistry.end(fledEvent.getBattle().getBattleId())) {
+                SkysCobblemonUtils.LOGGER.debug("Battle {} ended by fleeing", fledEvent.getBattle().getBattleId());
+            }
         } else if (event instanceof com.cobblemon.mod.common.api.events.battles.BattleVictoryEvent victoryEvent) {
-            victoryEvent.getBattle().getActors().forEach(actor -> {
-                if (actor instanceof PlayerBattleActor playerActor) {
-                    ServerPlayer player = playerActor.getEntity();
-                    if (player != null) {
-                        playersInBattle.remove(player.getUUID());
-                        SkysCobblemonUtils.LOGGER.debug("Player {} finished battle", player.getName().getString());
-                    }
-                }
-            });
+            if (ActiveBattleRegistry.end(victoryEvent.getBattle().getBattleId())) {
+                SkysCobblemonUtils.LOGGER.debug("Battle {} finished", victoryEvent.getBattle().getBattleId());
+            }
         }
         return Unit.INSTANCE;
     }
 
     /**
      * Prevents mobs from targeting players who are in battle.
-     * Boss monsters (Wither, Ender Dragon, Warden) are exempt.
-     * Note: This event doesn't fire for Brain-AI mobs like Piglins/Piglin Brutes - they're handled separately in clearPlayerAggro.
+     * Mobs exempt under AggroPolicy (bosses by default) are allowed through.
+     * Note: This event doesn't fire for Brain-AI mobs like Piglins/Piglin Brutes - BrainMixin vetoes those.
      */
     @SubscribeEvent
     public void onMobTargetChange(LivingChangeTargetEvent event) {
-        if (event.getNewAboutToBeSetTarget() instanceof ServerPlayer player) {
-            if (playersInBattle.contains(player.getUUID())) {
-                // Allow boss monsters to ignore battle protection
-                if (isBossMonster(event.getEntity())) {
-                    return;
-                }
+        if (vetoTarget(event.getEntity(), event.getNewAboutToBeSetTarget())) {
+            event.setCanceled(true);
+        }
+    }
 
-                event.setCanceled(true);
-                SkysCobblemonUtils.LOGGER.debug("Prevented mob from targeting player {} (in battle)", player.getName().getString());
-            }
+    /**
+     * Returns true if the mob must not target the entity because it is a player in battle.
+     * Shared by the LivingChangeTargetEvent handler and BrainMixin's ATTACK_TARGET veto.
+     */
+    public static boolean vetoTarget(Entity mob, @Nullable Entity target) {
+        if (!(target instanceof ServerPlayer player) || !ActiveBattleRegistry.isInBattle(player.getUUID())) {
+            return false;
+        }
+        // Allow exempt mobs (bosses by default) to ignore battle protection
+        if (AggroPolicy.isExempt(mob)) {
+            return false;
         }
+
+        ModMetrics.AGGRO_TARGETS_CANCELLED.increment();
+        if (SkysCobblemonUtils.LOGGER.isDebugEnabled()) {
+            SkysCobblemonUtils.LOGGER.debug("Prevented {} from targeting player {} (in battle)",
+                mob.getType().getDescription().getString(),
+                player.getName().getString());
+        }
+        return true;
     }
 
     /**
-     * Tick event to continuously clear Brain-AI mob targets while players are in battle.
-     * Brain-AI mobs (like Piglin Brutes) don't fire LivingChangeTargetEvent, so we need to actively clear them.
+     * Periodic reconciliation of Brain-AI mob targets while players are in battle.
+     * BrainMixin stops new ATTACK_TARGET memories at the source, so this only catches
+     * targets set before the battle started or outside the brain's memory setters.
+     * <p>
+     * Players' protection boxes are merged per level into chunk-aligned regions, so each
+     * region costs one entity query no matter how many players are battling in it.
      */
     @SubscribeEvent
     public void onServerTick(net.neoforged.neoforge.event.tick.ServerTickEvent.Post event) {
-        if (playersInBattle.isEmpty()) {
+        if (ActiveBattleRegistry.isEmpty()) {
             return; // No players in battle, skip processing
         }
+        // Each dimension sweeps on its own interval; none is due between granularity steps
+        if (++sweepTick % AggroPolicy.sweepGranularity() != 0) {
+            return;
+        }
 
-        event.getServer().getAllLevels().forEach(level -> {
-            playersInBattle.forEach(playerUUID -> {
-                ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerUUID);
-                if (player != null && player.serverLevel() == level) {
-                    // Check for Brain-AI mobs (Piglins, Piglin Brutes) targeting the player
-                    level.getEntitiesOfClass(AbstractPiglin.class, player.getBoundingBox().inflate(16.0D))
-                        .forEach(piglin -> {
-                            if (piglin.getBrain().getMemory(MemoryModuleType.ATTACK_TARGET).orElse(null) == player) {
-                                piglin.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
-                                piglin.setTarget(null);
-                                SkysCobblemonUtils.LOGGER.debug("Cleared Brain-AI targeting from {} on player {} (in battle)",
-                                    piglin.getType().getDescription().getString(),
-                                    player.getName().getString());
-                            }
-                        });
+        long start = System.nanoTime();
+        AggroSweepEvent sweep = new AggroSweepEvent();
+        sweep.begin();
+        int players = 0;
+        int regions = 0;
+        int scanned = 0;
+        int cleared = 0;
+
+        Map<ServerLevel, List<ServerPlayer>> playersByLevel = new IdentityHashMap<>();
+        for (UUID playerUUID : ActiveBattleRegistry.playersInBattle()) {
+            ServerPlayer player = event.getServer().getPlayerList().getPlayer(playerUUID);
+            if (player != null && sweepTick % AggroPolicy.forLevel(player.level()).sweepIntervalTicks() == 0) {
+                playersByLevel.computeIfAbsent(player.serverLevel(), level -> new ArrayList<>()).add(player);
+                players++;
+            }
+        }
+
+        for (Map.Entry<ServerLevel, List<ServerPlayer>> entry : playersByLevel.entrySet()) {
+            double radius = AggroPolicy.forLevel(entry.getKey()).sweepRadius();
+            for (SweepRegion region : SweepRegion.merge(entry.getValue(), radius)) {
+                regions++;
+                // Check for Brain-AI mobs (Piglins, Piglin Brutes) targeting any of the region's players
+                List<AbstractPiglin> piglins = entry.getKey().getEntitiesOfClass(AbstractPiglin.class, region.bounds());
+                scanned += piglins.size();
+                for (AbstractPiglin piglin : piglins) {
+                    // Exempt types keep their targets, same as in vetoTarget and clearPlayerAggro
+                    if (AggroPolicy.isExempt(piglin) || !piglin.getBrain().hasMemoryValue(MemoryModuleType.ATTACK_TARGET)) {
+                        continue;
+                    }
+                    int index = region.protectedPlayer(piglin.getBrain().getMemory(MemoryModuleType.ATTACK_TARGET).get(),
+                            piglin.getBoundingBox());
+                    if (index >= 0) {
+                        piglin.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
+                        piglin.setTarget(null);
+                        cleared++;
+                        SkysCobblemonUtils.LOGGER.debug("Cleared Brain-AI targeting from {} on player {} (in battle)",
+                            piglin.getType().getDescription().getString(),
+                            region.players.get(index).getName().getString());
+                    }
                 }
-            });
-        });
+            }
+        }
+
+        ModMetrics.AGGRO_TICK.recordSince(start);
+        if (sweep.shouldCommit()) {
+            sweep.levels = playersByLevel.size();
+            sweep.players = players;
+            sweep.regions = regions;
+            sweep.entitiesScanned = scanned;
+            sweep.targetsCleared = cleared;
+            sweep.commit();
+        }
     }
 
     /**
@@ -143,61 +197,49 @@ public class BattleAggroHandler {
     @SubscribeEvent
     public void onPlayerDeath(LivingDeathEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
-            if (playersInBattle.remove(player.getUUID())) {
+            if (ActiveBattleRegistry.removePlayer(player.getUUID())) {
                 SkysCobblemonUtils.LOGGER.debug("Player {} died - removed from battle protection", player.getName().getString());
             }
         }
     }
 
     /**
-     * Check if an entity is a boss monster that should ignore battle protection.
-     */
-    private boolean isBossMonster(net.minecraft.world.entity.Entity entity) {
-        return entity instanceof WitherBoss ||
-               entity instanceof EnderDragon ||
-               entity instanceof Warden;
-    }
-
-    /**
-     * Clears all mob aggro targeting the specified player.
-     * Boss monsters are exempt and will keep their targets.
+     * Clears the aggro of every mob targeting the specified player, found via AggroTargetIndex.
+     * Exempt mobs keep their targets; mobs after other players are untouched.
      */
     private void clearPlayerAggro(ServerPlayer player) {
-        // Get all nearby mobs and clear their target if it's this player (except bosses)
-        player.serverLevel().getEntitiesOfClass(Mob.class, player.getBoundingBox().inflate(32.0D))
-            .forEach(mob -> {
-                if (!isBossMonster(mob)) {
-                    if (mob.getTarget() == player) {
-                        mob.setTarget(null);
-                        SkysCobblemonUtils.LOGGER.debug("Cleared aggro from {} on player {}",
-                            mob.getType().getDescription().getString(),
-                            player.getName().getString());
-                    }
+        int[] mobIds = AggroTargetIndex.drainTargeting(player);
+        ModMetrics.AGGRO_CLEAR_SCANNED.add(mobIds.length);
+        for (int mobId : mobIds) {
+            if (!(player.serverLevel().getEntity(mobId) instanceof Mob mob) || AggroPolicy.isExempt(mob)) {
+                continue;
+            }
+            boolean cleared = false;
 
-                    // Special handling for neutral mobs (like piglins) - clear their anger
-                    if (mob instanceof NeutralMob neutralMob) {
-                        neutralMob.stopBeingAngry();
-                        SkysCobblemonUtils.LOGGER.debug("Cleared neutral mob anger from {} towards player {}",
-                            mob.getType().getDescription().getString(),
-                            player.getName().getString());
-                    }
+            if (mob.getTarget() == player) {
+                mob.setTarget(null);
+                cleared = true;
+            }
 
-                    // Special handling for Brain-AI mobs (Piglins, Piglin Brutes)
-                    // They use Brain memory instead of traditional goals
-                    if (mob instanceof AbstractPiglin piglin) {
-                        piglin.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
-                        SkysCobblemonUtils.LOGGER.debug("Cleared Brain-AI attack target from {} towards player {}",
-                            mob.getType().getDescription().getString(),
-                            player.getName().getString());
-                    }
-                }
-            });
-    }
+            // Brain-AI mobs (Piglins, Piglin Brutes) use Brain memory instead of traditional goals
+            if (mob.getBrain().hasMemoryValue(MemoryModuleType.ATTACK_TARGET)
+                    && mob.getBrain().getMemory(MemoryModuleType.ATTACK_TARGET).get() == player) {
+                mob.getBrain().eraseMemory(MemoryModuleType.ATTACK_TARGET);
+                cleared = true;
+            }
 
-    /**
-     * Check if a player is currently in battle.
-     */
-    public static boolean isPlayerInBattle(UUID playerUUID) {
-        return playersInBattle.contains(playerUUID);
+            // Neutral mobs would re-acquire the player from their persistent anger
+            if (mob instanceof NeutralMob neutralMob && player.getUUID().equals(neutralMob.getPersistentAngerTarget())) {
+                neutralMob.stopBeingAngry();
+                cleared = true;
+            }
+
+            if (cleared) {
+                ModMetrics.AGGRO_CLEAR_CLEARED.increment();
+                SkysCobblemonUtils.LOGGER.debug("Cleared aggro from {} on player {}",
+                    mob.getType().getDescription().getString(),
+                    player.getName().getString());
+            }
+        }
     }
 }
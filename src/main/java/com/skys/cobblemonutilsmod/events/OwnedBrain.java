@@ -0,0 +1,11 @@
+package com.skys.cobblemonutilsmod.events;
+
+import net.minecraft.world.entity.LivingEntity;
+
+/**
+ * Implemented on Brain by BrainMixin, so the brain knows its entity from the moment it is
+ * created rather than from its first tick.
+ */
+public interface OwnedBrain {
+    void skyscobblemon$setOwner(LivingEntity owner);
+}
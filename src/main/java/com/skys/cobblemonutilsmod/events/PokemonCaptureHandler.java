@@ -4,17 +4,22 @@ import com.cobblemon.mod.common.api.Priority;
 import com.cobblemon.mod.common.api.events.CobblemonEvents;
 import com.cobblemon.mod.common.api.events.pokeball.ThrownPokeballHitEvent;
 import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import com.skys.cobblemonutilsmod.feedback.FeedbackDispatcher;
+import com.skys.cobblemonutilsmod.feedback.FeedbackMessage;
+import com.skys.cobblemonutilsmod.metrics.CaptureDeniedEvent;
 import kotlin.Unit;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.item.ItemEntity;
-import net.minecraft.world.item.ItemStack;
 
 /**
  * Prevents players from catching Pokémon that they're not actively in battle with.
  * Pokéballs can still be thrown, but they'll just drop as items instead of starting a capture.
  */
 public class PokemonCaptureHandler {
+    private static final FeedbackMessage CATCH_OUTSIDE_BATTLE = FeedbackMessage.of(
+            Component.literal("You can only catch Pokémon during battle!")
+                    .withStyle(style -> style.withColor(0xFF5555))
+    );
 
     public PokemonCaptureHandler() {
         // Register Cobblemon pokeball hit event
@@ -30,17 +35,19 @@ public class PokemonCaptureHandler {
         // Check if the thrower is a player
         if (event.getPokeBall().getOwner() instanceof ServerPlayer player) {
             // Check if player is currently in a battle
-            if (!BattleAggroHandler.isPlayerInBattle(player.getUUID())) {
+            if (!ActiveBattleRegistry.isInLiveBattle(player.getUUID())) {
                 // Cancel the capture process
                 // The pokeball entity will handle dropping itself when cancelled
                 event.cancel();
 
+                CaptureDeniedEvent denied = new CaptureDeniedEvent();
+                if (denied.shouldCommit()) {
+                    denied.player = player.getGameProfile().getName();
+                    denied.commit();
+                }
+
                 // Send action bar message to player (appears above hotbar, less intrusive)
-                player.displayClientMessage(
-                    Component.literal("You can only catch Pokémon during battle!")
-                        .withStyle(style -> style.withColor(0xFF5555)),
-                    true  // Display as action bar
-                );
+                FeedbackDispatcher.actionBar(player, CATCH_OUTSIDE_BATTLE);
 
                 SkysCobblemonUtils.LOGGER.debug(
                     "Prevented {} from catching Pokémon outside of battle",
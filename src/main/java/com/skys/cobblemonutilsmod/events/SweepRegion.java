@@ -0,0 +1,103 @@
+package com.skys.cobblemonutilsmod.events;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chunk-aligned area covering the protection boxes of one or more battling players in
+ * the same level, so players battling close together share a single entity query per sweep.
+ * <p>
+ * Two regions are only merged when their bounding rectangle covers no more chunks than the
+ * two did separately. Clusters merge, but a line of players stays as separate regions
+ * rather than becoming one query over the mostly empty rectangle enclosing them, so the
+ * cost follows the occupied area.
+ */
+final class SweepRegion {
+    // Chunk coordinates, inclusive
+    private int minChunkX;
+    private int minChunkZ;
+    private int maxChunkX;
+    private int maxChunkZ;
+    private double minY;
+    private double maxY;
+    final List<ServerPlayer> players = new ArrayList<>(2);
+    final List<AABB> protectionBoxes = new ArrayList<>(2);
+
+    private SweepRegion(ServerPlayer player, AABB box) {
+        minChunkX = SectionPos.blockToSectionCoord(box.minX);
+        minChunkZ = SectionPos.blockToSectionCoord(box.minZ);
+        maxChunkX = SectionPos.blockToSectionCoord(box.maxX);
+        maxChunkZ = SectionPos.blockToSectionCoord(box.maxZ);
+        minY = box.minY;
+        maxY = box.maxY;
+        players.add(player);
+        protectionBoxes.add(box);
+    }
+
+    /**
+     * Builds the merged regions for players that are all in the same level.
+     */
+    static List<SweepRegion> merge(List<ServerPlayer> players, double radius) {
+        List<SweepRegion> regions = new ArrayList<>();
+        for (ServerPlayer player : players) {
+            SweepRegion region = new SweepRegion(player, player.getBoundingBox().inflate(radius));
+            // Absorbing a region can make another merge worthwhile, so keep going until none is
+            boolean merged;
+            do {
+                merged = false;
+                for (int i = 0; i < regions.size(); i++) {
+                    if (region.worthMerging(regions.get(i))) {
+                        region.absorb(regions.remove(i));
+                        merged = true;
+                        break;
+                    }
+                }
+            } while (merged);
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    private boolean worthMerging(SweepRegion other) {
+        long unionArea = (long) (Math.max(maxChunkX, other.maxChunkX) - Math.min(minChunkX, other.minChunkX) + 1)
+                * (Math.max(maxChunkZ, other.maxChunkZ) - Math.min(minChunkZ, other.minChunkZ) + 1);
+        return unionArea <= chunkArea() + other.chunkArea();
+    }
+
+    private long chunkArea() {
+        return (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+    }
+
+    private void absorb(SweepRegion other) {
+        minChunkX = Math.min(minChunkX, other.minChunkX);
+        minChunkZ = Math.min(minChunkZ, other.minChunkZ);
+        maxChunkX = Math.max(maxChunkX, other.maxChunkX);
+        maxChunkZ = Math.max(maxChunkZ, other.maxChunkZ);
+        minY = Math.min(minY, other.minY);
+        maxY = Math.max(maxY, other.maxY);
+        players.addAll(other.players);
+        protectionBoxes.addAll(other.protectionBoxes);
+    }
+
+    AABB bounds() {
+        return new AABB(SectionPos.sectionToBlockCoord(minChunkX), minY, SectionPos.sectionToBlockCoord(minChunkZ),
+                SectionPos.sectionToBlockCoord(maxChunkX + 1), maxY, SectionPos.sectionToBlockCoord(maxChunkZ + 1));
+    }
+
+    /**
+     * Returns the index of the region's player that the target is, if the entity is inside
+     * that player's protection box, or -1.
+     */
+    int protectedPlayer(Object target, AABB entityBox) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == target && protectionBoxes.get(i).intersects(entityBox)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
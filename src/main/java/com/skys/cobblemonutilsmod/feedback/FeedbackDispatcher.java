@@ -0,0 +1,79 @@
+package com.skys.cobblemonutilsmod.feedback;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+
+import java.util.UUID;
+
+/**
+ * Sends action bar feedback with a per-player rate limit, so one player's spam can't
+ * suppress anyone else's messages and hot paths (brush use ticks, pokéball hits) don't
+ * send a packet every time. State is keyed by player UUID rather than entity id, so a
+ * respawn or dimension change (which gives the player a new entity) neither resets the
+ * limit nor leaves an entry behind; entries are only dropped on logout.
+ * <p>
+ * Each player has a token bucket holding up to {@link #BURST} messages, refilled one per
+ * {@link #TICKS_PER_TOKEN} ticks. The bucket is stored as the tick at which it would next
+ * be full (GCRA), so it needs a single long per player. Server thread only.
+ */
+public final class FeedbackDispatcher {
+    private static final long TICKS_PER_TOKEN = 20;
+    private static final int BURST = 2;
+
+    private static final Object2LongMap<UUID> bucketFullAtTick = new Object2LongOpenHashMap<>();
+    // Last message sent to each player in currentTick, to drop duplicates within a tick
+    private static final Object2ObjectMap<UUID, FeedbackMessage> sentThisTick = new Object2ObjectOpenHashMap<>();
+    private static long currentTick = Long.MIN_VALUE;
+
+    private FeedbackDispatcher() {
+    }
+
+    /**
+     * Shows the message on the player's action bar unless it was already sent to them this
+     * tick or their bucket is empty. The Component is only resolved when it is actually sent.
+     *
+     * @return true if the message was sent
+     */
+    public static boolean actionBar(ServerPlayer player, FeedbackMessage message) {
+        long now = player.server.getTickCount();
+        if (now != currentTick) {
+            sentThisTick.clear();
+            currentTick = now;
+        }
+
+        UUID id = player.getUUID();
+        if (sentThisTick.get(id) == message) {
+            return false;
+        }
+
+        long fullAt = Math.max(bucketFullAtTick.getOrDefault(id, now), now);
+        if (fullAt - now > (BURST - 1) * TICKS_PER_TOKEN) {
+            return false;
+        }
+        bucketFullAtTick.put(id, fullAt + TICKS_PER_TOKEN);
+        sentThisTick.put(id, message);
+
+        player.displayClientMessage(message.get(), true);
+        return true;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        UUID id = event.getEntity().getUUID();
+        bucketFullAtTick.removeLong(id);
+        sentThisTick.remove(id);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        bucketFullAtTick.clear();
+        sentThisTick.clear();
+        currentTick = Long.MIN_VALUE;
+    }
+}
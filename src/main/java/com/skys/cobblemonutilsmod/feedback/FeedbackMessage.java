@@ -0,0 +1,47 @@
+package com.skys.cobblemonutilsmod.feedback;
+
+import net.minecraft.network.chat.Component;
+
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * A feedback message key with a cached Component. Fixed messages are built once; timed
+ * messages are rebuilt only when their version changes (e.g. once per countdown second),
+ * however many players are shown them. Also used by the FeedbackDispatcher to recognise
+ * duplicates within a tick. Server thread only.
+ */
+public final class FeedbackMessage {
+    private static final LongSupplier FIXED = () -> 0L;
+
+    private final LongSupplier version;
+    private final LongFunction<Component> factory;
+    private long builtFor = Long.MIN_VALUE;
+    private Component cached;
+
+    private FeedbackMessage(LongSupplier version, LongFunction<Component> factory) {
+        this.version = version;
+        this.factory = factory;
+    }
+
+    public static FeedbackMessage of(Component component) {
+        return new FeedbackMessage(FIXED, ignored -> component);
+    }
+
+    /**
+     * @param version the value the Component depends on; the factory runs again when it changes
+     * @param factory builds the Component for a version
+     */
+    public static FeedbackMessage timed(LongSupplier version, LongFunction<Component> factory) {
+        return new FeedbackMessage(version, factory);
+    }
+
+    public Component get() {
+        long current = version.getAsLong();
+        if (cached == null || current != builtFor) {
+            cached = factory.apply(current);
+            builtFor = current;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,31 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one BattleAggroHandler sweep clearing Brain-AI targets off players in battle.
+ */
+@Name("skysutils.AggroSweep")
+@Label("Aggro Sweep")
+@Category({"Sky's Cobblemon Utils", "Battle"})
+@Description("Brain-AI mob targets were checked for players in battle")
+public class AggroSweepEvent extends Event {
+    @Label("Levels")
+    public int levels;
+
+    @Label("Players")
+    public int players;
+
+    @Label("Regions")
+    public int regions;
+
+    @Label("Entities Scanned")
+    public int entitiesScanned;
+
+    @Label("Targets Cleared")
+    public int targetsCleared;
+}
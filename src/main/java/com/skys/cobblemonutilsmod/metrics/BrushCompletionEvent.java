@@ -0,0 +1,41 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a player finishing a daily brushable block. The duration covers the loot
+ * drop, ledger update and block update.
+ */
+@Name("skysutils.BrushCompletion")
+@Label("Brush Completion")
+@Category({"Sky's Cobblemon Utils", "Archaeology"})
+@Description("A player finished brushing a daily brushable block")
+public class BrushCompletionEvent extends Event {
+    @Label("Dimension")
+    public String dimension;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Player")
+    public String player;
+
+    @Label("Loot")
+    public String loot;
+
+    @Label("Loot Time")
+    @Description("Time spent rolling the loot table; near zero when the roll was cached")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lootTime;
+}
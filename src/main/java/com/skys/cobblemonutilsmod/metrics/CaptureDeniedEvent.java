@@ -0,0 +1,19 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a pokéball capture cancelled because the thrower wasn't in battle.
+ */
+@Name("skysutils.CaptureDenied")
+@Label("Capture Denied")
+@Category({"Sky's Cobblemon Utils", "Battle"})
+@Description("A pokéball capture was cancelled outside of battle")
+public class CaptureDeniedEvent extends Event {
+    @Label("Player")
+    public String player;
+}
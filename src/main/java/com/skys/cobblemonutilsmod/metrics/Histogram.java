@@ -0,0 +1,105 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed bucket bounds in nanoseconds. Recording is a short scan of
+ * the bounds and two LongAdder adds; nothing is allocated and no lock is taken.
+ */
+public final class Histogram {
+    // Upper bounds from 1µs to 50ms; larger values land in the overflow bucket
+    private static final long[] BOUNDS_NANOS = {
+            1_000L, 5_000L, 10_000L, 50_000L, 100_000L, 500_000L,
+            1_000_000L, 5_000_000L, 10_000_000L, 50_000_000L
+    };
+
+    private final String name;
+    private final String help;
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    Histogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Records the time since a System.nanoTime() start.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String help() {
+        return help;
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+
+    static int bucketCount() {
+        return BOUNDS_NANOS.length + 1;
+    }
+
+    /**
+     * Upper bound of the bucket, or Long.MAX_VALUE for the overflow bucket.
+     */
+    static long bound(int bucket) {
+        return bucket < BOUNDS_NANOS.length ? BOUNDS_NANOS[bucket] : Long.MAX_VALUE;
+    }
+
+    long bucket(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * Approximate quantile: the upper bound of the bucket containing it.
+     */
+    public long quantileNanos(double quantile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= target) {
+                return bound(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sumNanos.reset();
+    }
+}
@@ -0,0 +1,203 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.skys.cobblemonutilsmod.Config;
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counters and latency histograms for the mod's hot paths, shown by /skysutils metrics and
+ * optionally dumped as Prometheus text to a file in the world folder. Nothing is served
+ * over the network; point a node exporter textfile collector at the file if needed.
+ */
+public final class ModMetrics {
+    private static final String DUMP_FILE = "skysutils_metrics.prom";
+
+    // Archaeology
+    public static final Counter BRUSH_CALLS = new Counter("skysutils_brush_calls_total",
+            "Brush calls handled by daily brushable blocks");
+    public static final Counter BRUSH_COMPLETIONS = new Counter("skysutils_brush_completions_total",
+            "Brushing sessions completed with a loot drop");
+    public static final Histogram LOOT_GENERATION = new Histogram("skysutils_loot_generation_seconds",
+            "Time spent rolling a daily brushable loot table");
+    public static final Histogram RESET_PIPELINE_TICK = new Histogram("skysutils_reset_pipeline_tick_seconds",
+            "Time the reset pipeline spent refreshing blocks in one server tick");
+    public static final Counter RESET_BLOCKS_REFRESHED = new Counter("skysutils_reset_blocks_refreshed_total",
+            "Blocks refreshed by the reset pipeline");
+
+    // Battle aggro
+    public static final Histogram AGGRO_TICK = new Histogram("skysutils_aggro_tick_seconds",
+            "Time spent in BattleAggroHandler's server tick");
+    public static final Counter AGGRO_CLEAR_SCANNED = new Counter("skysutils_aggro_clear_scanned_total",
+            "Mobs scanned when clearing aggro for a player entering battle");
+    public static final Counter AGGRO_CLEAR_CLEARED = new Counter("skysutils_aggro_clear_cleared_total",
+            "Mobs whose aggro was cleared when a player entered battle");
+    public static final Counter AGGRO_TARGETS_CANCELLED = new Counter("skysutils_aggro_targets_cancelled_total",
+            "Mob target changes cancelled because the player was in battle");
+
+    private static final List<Counter> COUNTERS = List.of(BRUSH_CALLS, BRUSH_COMPLETIONS, RESET_BLOCKS_REFRESHED,
+            AGGRO_CLEAR_SCANNED, AGGRO_CLEAR_CLEARED, AGGRO_TARGETS_CANCELLED);
+    private static final List<Histogram> HISTOGRAMS = List.of(LOOT_GENERATION, RESET_PIPELINE_TICK, AGGRO_TICK);
+
+    // File writes happen here, never on the server thread
+    private static final ExecutorService DUMP_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Skys Metrics Dump");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicBoolean periodicDumpPending = new AtomicBoolean();
+    private static int ticksSinceDump = 0;
+
+    private ModMetrics() {
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        int intervalSeconds = Config.METRICS_DUMP_INTERVAL_SECONDS.get();
+        if (intervalSeconds <= 0 || ++ticksSinceDump < intervalSeconds * 20) {
+            return;
+        }
+        ticksSinceDump = 0;
+        // Skip this interval if the previous write is still stuck on slow I/O
+        if (periodicDumpPending.compareAndSet(false, true)) {
+            dump(event.getServer()).whenComplete((file, error) -> {
+                periodicDumpPending.set(false);
+                if (error != null) {
+                    SkysCobblemonUtils.LOGGER.warn("Failed to write metrics", error);
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text format on a background thread, replacing the
+     * previous file atomically so a collector never reads a half-written dump. The returned
+     * future completes with the file, or exceptionally if the write failed.
+     */
+    public static CompletableFuture<Path> dump(MinecraftServer server) {
+        Path file = server.getWorldPath(LevelResource.ROOT).resolve(DUMP_FILE);
+        String text = toPrometheusText();
+        return CompletableFuture.supplyAsync(() -> {
+            Path tmp = file.resolveSibling(DUMP_FILE + ".tmp");
+            try {
+                Files.writeString(tmp, text, StandardCharsets.UTF_8);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write metrics to " + file, e);
+            }
+            return file;
+        }, DUMP_EXECUTOR);
+    }
+
+    public static String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Counter counter : COUNTERS) {
+            out.append("# HELP ").append(counter.name()).append(' ').append(counter.help()).append('\n');
+            out.append("# TYPE ").append(counter.name()).append(" counter\n");
+            out.append(counter.name()).append(' ').append(counter.get()).append('\n');
+        }
+        for (Histogram histogram : HISTOGRAMS) {
+            String name = histogram.name();
+            out.append("# HELP ").append(name).append(' ').append(histogram.help()).append('\n');
+            out.append("# TYPE ").append(name).append(" histogram\n");
+            long cumulative = 0;
+            for (int i = 0; i < Histogram.bucketCount(); i++) {
+                cumulative += histogram.bucket(i);
+                long bound = Histogram.bound(i);
+                String le = bound == Long.MAX_VALUE ? "+Inf" : Double.toString(bound / 1e9);
+                out.append(name).append("_bucket{le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+            }
+            out.append(name).append("_sum ").append(histogram.sumNanos() / 1e9).append('\n');
+            out.append(name).append("_count ").append(cumulative).append('\n');
+        }
+        return out.toString();
+    }
+
+    // Commands
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
+
+        dispatcher.register(Commands.literal("skysutils")
+                .requires(source -> source.hasPermission(2)) // Requires OP level 2
+                .then(Commands.literal("metrics")
+                        .executes(ModMetrics::metricsCommand)
+                        .then(Commands.literal("dump")
+                                .executes(ModMetrics::dumpCommand))
+                        .then(Commands.literal("reset")
+                                .executes(ModMetrics::resetCommand))));
+    }
+
+    private static int metricsCommand(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+
+        source.sendSuccess(() -> Component.literal("=== Sky's Cobblemon Utils Metrics ===").withStyle(ChatFormatting.GOLD), false);
+        for (Counter counter : COUNTERS) {
+            source.sendSuccess(() -> Component.literal(counter.name() + ": " + counter.get()), false);
+        }
+        for (Histogram histogram : HISTOGRAMS) {
+            long count = histogram.count();
+            String text = count == 0
+                    ? histogram.name() + ": no samples"
+                    : String.format("%s: n=%d avg=%.1fµs p50<=%s p99<=%s total=%.1fms",
+                            histogram.name(), count, histogram.sumNanos() / 1e3 / count,
+                            formatBound(histogram.quantileNanos(0.5)), formatBound(histogram.quantileNanos(0.99)),
+                            histogram.sumNanos() / 1e6);
+            source.sendSuccess(() -> Component.literal(text), false);
+        }
+
+        return 1;
+    }
+
+    private static String formatBound(long nanos) {
+        if (nanos == Long.MAX_VALUE) {
+            return ">50ms";
+        }
+        return nanos >= 1_000_000 ? nanos / 1_000_000 + "ms" : nanos / 1_000 + "µs";
+    }
+
+    private static int dumpCommand(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        dump(server).whenComplete((file, error) -> server.execute(() -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                SkysCobblemonUtils.LOGGER.warn("Failed to write metrics", cause);
+                source.sendFailure(Component.literal("Failed to write metrics: " + cause.getMessage()));
+            } else {
+                source.sendSuccess(() -> Component.literal("Wrote metrics to " + file), false);
+            }
+        }));
+        return 1;
+    }
+
+    private static int resetCommand(CommandContext<CommandSourceStack> context) {
+        COUNTERS.forEach(Counter::reset);
+        HISTOGRAMS.forEach(Histogram::reset);
+        context.getSource().sendSuccess(() -> Component.literal("Reset all metrics."), true);
+        return 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a reset clearing harvests from the ledger and queuing the blocks for the
+ * ResetPipeline. The pipeline's own per-tick work is a ResetDrainEvent.
+ */
+@Name("skysutils.ResetBatch")
+@Label("Reset Batch")
+@Category({"Sky's Cobblemon Utils", "Archaeology"})
+@Description("Daily brushable harvests were reset")
+public class ResetBatchEvent extends Event {
+    @Label("Kind")
+    @Description("rollover, startup, all, area or player")
+    public String kind;
+
+    @Label("Blocks")
+    public int blocks;
+}
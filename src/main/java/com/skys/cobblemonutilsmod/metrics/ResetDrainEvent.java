@@ -0,0 +1,28 @@
+package com.skys.cobblemonutilsmod.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one tick of ResetPipeline work refreshing reset blocks. The event's
+ * duration is the time used; compare it with the budget to spot ticks that overran.
+ */
+@Name("skysutils.ResetDrain")
+@Label("Reset Drain")
+@Category({"Sky's Cobblemon Utils", "Archaeology"})
+@Description("Reset daily brushable blocks were refreshed within the tick budget")
+public class ResetDrainEvent extends Event {
+    @Label("Blocks Refreshed")
+    public int blocksRefreshed;
+
+    @Label("Blocks Remaining")
+    public int blocksRemaining;
+
+    @Label("Budget")
+    @Timespan(Timespan.NANOSECONDS)
+    public long budgetNanos;
+}
@@ -0,0 +1,74 @@
+package com.skys.cobblemonutilsmod.mixin;
+
+import com.skys.cobblemonutilsmod.events.AggroTargetIndex;
+import com.skys.cobblemonutilsmod.events.BattleAggroHandler;
+import com.skys.cobblemonutilsmod.events.OwnedBrain;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.ExpirableValue;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.Optional;
+
+/**
+ * Vetoes ATTACK_TARGET memories pointing at players in battle, so Brain-AI mobs (Piglins,
+ * Piglin Brutes, Hoglins...) are stopped at the source instead of by a per-tick entity scan.
+ * ATTACK_TARGET changes that go through are fed to AggroTargetIndex.
+ */
+@Mixin(Brain.class)
+public abstract class BrainMixin implements OwnedBrain {
+
+    // Brain doesn't know its entity: LivingEntityMixin sets it on creation, copies inherit it,
+    // and tick() covers brains a subclass builds some other way
+    @Unique
+    private LivingEntity skyscobblemon$owner;
+
+    @Override
+    public void skyscobblemon$setOwner(LivingEntity owner) {
+        skyscobblemon$owner = owner;
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void skyscobblemon$captureOwner(ServerLevel level, LivingEntity entity, CallbackInfo ci) {
+        skyscobblemon$owner = entity;
+    }
+
+    /**
+     * Villagers and others replace their brain with a copy; it belongs to the same entity.
+     */
+    @Inject(method = "copyWithoutBehaviors", at = @At("RETURN"))
+    private void skyscobblemon$inheritOwner(CallbackInfoReturnable<Brain<?>> cir) {
+        if (skyscobblemon$owner != null && cir.getReturnValue() instanceof OwnedBrain copy) {
+            copy.skyscobblemon$setOwner(skyscobblemon$owner);
+        }
+    }
+
+    /**
+     * Every setMemory/setMemoryWithExpiry/eraseMemory variant funnels through setMemoryInternal.
+     */
+    @Inject(method = "setMemoryInternal", at = @At("HEAD"), cancellable = true)
+    private void skyscobblemon$vetoBattleTarget(MemoryModuleType<?> memoryType, Optional<? extends ExpirableValue<?>> memory,
+                                                CallbackInfo ci) {
+        if (memoryType != MemoryModuleType.ATTACK_TARGET || skyscobblemon$owner == null) {
+            return;
+        }
+        if (memory.isEmpty()) {
+            AggroTargetIndex.untrack(skyscobblemon$owner.getId());
+            return;
+        }
+        if (memory.get().getValue() instanceof LivingEntity target) {
+            if (BattleAggroHandler.vetoTarget(skyscobblemon$owner, target)) {
+                ci.cancel();
+            } else {
+                AggroTargetIndex.track(skyscobblemon$owner, target);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.skys.cobblemonutilsmod.mixin;
+
+import com.skys.cobblemonutilsmod.events.OwnedBrain;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Hands every brain its owner as soon as LivingEntity creates it: in the constructor and
+ * when it is rebuilt from saved data. Subclass constructors, where freshly spawned and
+ * converted mobs first set memories, only run after this.
+ */
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin {
+    @Shadow
+    protected Brain<?> brain;
+
+    @Inject(method = {"<init>", "readAdditionalSaveData"}, at = @At("RETURN"))
+    private void skyscobblemon$claimBrain(CallbackInfo ci) {
+        if (brain instanceof OwnedBrain owned) {
+            owned.skyscobblemon$setOwner((LivingEntity) (Object) this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.skys.cobblemonutilsmod.network;
+
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Sent alongside a chunk: the packed positions in that chunk the receiving player
+ * has harvested today. Replaces whatever the client knew about the chunk.
+ */
+public record ChunkHarvestPayload(int chunkX, int chunkZ, long[] harvestedPositions) implements CustomPacketPayload {
+    public static final Type<ChunkHarvestPayload> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(SkysCobblemonUtils.MOD_ID, "chunk_harvests"));
+
+    public static final StreamCodec<FriendlyByteBuf, ChunkHarvestPayload> STREAM_CODEC =
+            CustomPacketPayload.codec(ChunkHarvestPayload::write, ChunkHarvestPayload::new);
+
+    private ChunkHarvestPayload(FriendlyByteBuf buf) {
+        this(buf.readVarInt(), buf.readVarInt(), buf.readLongArray());
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(chunkX);
+        buf.writeVarInt(chunkZ);
+        buf.writeLongArray(harvestedPositions);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,33 @@
+package com.skys.cobblemonutilsmod.network;
+
+import com.skys.cobblemonutilsmod.SkysCobblemonUtils;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Tells a single viewer whether they have harvested the block at a packed position.
+ * Sent when the viewer completes a harvest or when their harvest is reset.
+ */
+public record HarvestUpdatePayload(long pos, boolean harvested) implements CustomPacketPayload {
+    public static final Type<HarvestUpdatePayload> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(SkysCobblemonUtils.MOD_ID, "harvest_update"));
+
+    public static final StreamCodec<FriendlyByteBuf, HarvestUpdatePayload> STREAM_CODEC =
+            CustomPacketPayload.codec(HarvestUpdatePayload::write, HarvestUpdatePayload::new);
+
+    private HarvestUpdatePayload(FriendlyByteBuf buf) {
+        this(buf.readLong(), buf.readBoolean());
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeLong(pos);
+        buf.writeBoolean(harvested);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
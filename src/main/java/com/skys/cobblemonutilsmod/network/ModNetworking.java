@@ -0,0 +1,95 @@
+package com.skys.cobblemonutilsmod.network;
+
+import com.skys.cobblemonutilsmod.archaeology.ClientHarvestCache;
+import com.skys.cobblemonutilsmod.archaeology.DailyBrushableBlockEntity;
+import com.skys.cobblemonutilsmod.archaeology.HarvestLedger;
+import com.skys.cobblemonutilsmod.archaeology.UuidSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.ChunkWatchEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+import java.util.UUID;
+
+/**
+ * Syncs per-viewer harvest state. Each client only learns which blocks it harvested
+ * itself, instead of every block update carrying the full list of harvesting players.
+ */
+public class ModNetworking {
+    private static final String PROTOCOL_VERSION = "1";
+
+    public static void register(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION).optional();
+
+        registrar.playToClient(ChunkHarvestPayload.TYPE, ChunkHarvestPayload.STREAM_CODEC, ModNetworking::handleChunkHarvests);
+        registrar.playToClient(HarvestUpdatePayload.TYPE, HarvestUpdatePayload.STREAM_CODEC, ModNetworking::handleHarvestUpdate);
+    }
+
+    private static void handleChunkHarvests(ChunkHarvestPayload payload, IPayloadContext context) {
+        ClientHarvestCache.setChunk(payload.chunkX(), payload.chunkZ(), payload.harvestedPositions());
+    }
+
+    private static void handleHarvestUpdate(HarvestUpdatePayload payload, IPayloadContext context) {
+        ClientHarvestCache.set(payload.pos(), payload.harvested());
+    }
+
+    /**
+     * Sends the viewer's harvests for a chunk once the chunk itself has been sent.
+     * Chunks without daily brushable blocks send nothing.
+     */
+    @SubscribeEvent
+    public void onChunkSent(ChunkWatchEvent.Sent event) {
+        ServerPlayer player = event.getPlayer();
+        ServerLevel level = event.getLevel();
+        HarvestLedger ledger = HarvestLedger.get(level);
+        UUID uuid = player.getUUID();
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+
+        boolean hasBrushables = false;
+        LongArrayList harvested = new LongArrayList();
+        for (BlockEntity blockEntity : event.getChunk().getBlockEntities().values()) {
+            if (blockEntity instanceof DailyBrushableBlockEntity) {
+                hasBrushables = true;
+                long packedPos = blockEntity.getBlockPos().asLong();
+                if (ledger.hasHarvested(packedPos, msb, lsb)) {
+                    harvested.add(packedPos);
+                }
+            }
+        }
+
+        if (hasBrushables) {
+            ChunkPos chunkPos = event.getPos();
+            PacketDistributor.sendToPlayer(player, new ChunkHarvestPayload(chunkPos.x, chunkPos.z, harvested.toLongArray()));
+        }
+    }
+
+    public static void sendHarvestUpdate(ServerPlayer player, BlockPos pos, boolean harvested) {
+        PacketDistributor.sendToPlayer(player, new HarvestUpdatePayload(pos.asLong(), harvested));
+    }
+
+    /**
+     * Tells every viewer of the block, except those who still hold a harvest, that they can brush it again.
+     */
+    public static void sendBlockCleared(ServerLevel level, BlockPos pos, UuidSet.View stillHarvested) {
+        HarvestUpdatePayload payload = new HarvestUpdatePayload(pos.asLong(), false);
+        if (stillHarvested.isEmpty()) {
+            PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(pos), payload);
+            return;
+        }
+
+        for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false)) {
+            if (!stillHarvested.contains(player.getUUID())) {
+                PacketDistributor.sendToPlayer(player, payload);
+            }
+        }
+    }
+}